@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-/api/predict for the plain jar (default profile:
+# ddl-auto=update, no AOT, no CDS) and for the fast-startup build (prod
+# profile: Flyway-validated schema, AOT-generated context, CDS archive).
+#
+# Both runs start the jar built by -Pprod. Its AOT classes are only used with
+# -Dspring.aot.enabled=true, so the baseline runs like a default build's jar.
+# Devtools is in neither (repackaging leaves it out of a default build's jar
+# too), so it isn't part of the comparison.
+#
+# Usage: measure-startup.sh <target-dir> <final-name> [port]
+# Writes <target-dir>/startup-report.txt
+#
+set -euo pipefail
+
+TARGET_DIR="$1"
+FINAL_NAME="$2"
+PORT="${3:-18080}"
+REPORT="$TARGET_DIR/startup-report.txt"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+now_ms() { date +%s%3N; }
+
+# time_to_first_predict <label> <dir> <java args...>
+time_to_first_predict() {
+    local label="$1" dir="$2"
+    shift 2
+    local db="$WORK_DIR/$label-db"
+    local start pid elapsed
+
+    start=$(now_ms)
+    (cd "$dir" && exec java "$@" \
+        --server.port="$PORT" \
+        --spring.datasource.url="jdbc:h2:file:$db" \
+        --hockeypredictor.snapshot.path="$WORK_DIR/$label.snapshot" \
+        > "$WORK_DIR/$label.log" 2>&1) &
+    pid=$!
+
+    until curl -sf "http://localhost:$PORT/api/predict" > /dev/null 2>&1; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$label: application exited before serving /api/predict (see log below)" >&2
+            cat "$WORK_DIR/$label.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+baseline=$(time_to_first_predict baseline "$TARGET_DIR" -jar "$FINAL_NAME.jar")
+fast=$(time_to_first_predict fast "$TARGET_DIR/app" \
+    -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+    -jar "$FINAL_NAME.jar" --spring.profiles.active=prod)
+
+{
+    echo "Time to first /api/predict"
+    echo "  baseline (update schema, no AOT/CDS): ${baseline} ms"
+    echo "  prod (AOT + CDS + validated schema):  ${fast} ms"
+    echo "Both runs use the same jar, which (like a default build's) doesn't include devtools,"
+    echo "so devtools isn't part of the comparison."
+} | tee "$REPORT"
@@ -0,0 +1,45 @@
+package com.example.HockeyPredictor.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Outbound HTTP configuration for the Sportradar API.
+ *
+ * Uses the JDK HttpClient (pooled keep-alive connections, HTTP/2 when offered)
+ * with explicit connect/read timeouts so a hung socket can't stall an ingest,
+ * and virtual threads for the client's async work.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient sportsRadarHttpClient(@Value("${sportradar.http.connect-timeout-ms:5000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public RestClient sportsRadarRestClient(HttpClient sportsRadarHttpClient,
+                                            @Value("${sportradar.api.base-url}") String baseUrl,
+                                            @Value("${sportradar.http.read-timeout-ms:20000}") long readTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(sportsRadarHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .baseUrl(baseUrl)
+                .requestInterceptor(new GzipResponseInterceptor())
+                .build();
+    }
+}
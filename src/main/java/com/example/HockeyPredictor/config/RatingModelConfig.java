@@ -0,0 +1,28 @@
+package com.example.HockeyPredictor.config;
+
+import com.example.HockeyPredictor.model.RatingWeights;
+import com.example.HockeyPredictor.service.RatingModel;
+import com.example.HockeyPredictor.service.WeightedRatingModel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RatingModelConfig {
+
+    /** The original weighted model, without schedule context; more RatingModel beans are picked up by the registry the same way. */
+    @Bean
+    public RatingModel baselineRatingModel() {
+        RatingWeights weights = new RatingWeights();
+        weights.setRest(0.0);
+        weights.setBackToBack(0.0);
+        weights.setRecentGames(0.0);
+        weights.setTravel(0.0);
+        return new WeightedRatingModel("baseline", "1", weights);
+    }
+
+    /** The weighted model with rest, back-to-back and travel terms (the RatingWeights defaults). */
+    @Bean
+    public RatingModel scheduleAwareRatingModel() {
+        return new WeightedRatingModel("baseline", "2", new RatingWeights());
+    }
+}
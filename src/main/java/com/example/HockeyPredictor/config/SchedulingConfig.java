@@ -0,0 +1,10 @@
+package com.example.HockeyPredictor.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Drives the work coordinator's poll and lease heartbeat (no-ops unless hockeypredictor.work.enabled). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
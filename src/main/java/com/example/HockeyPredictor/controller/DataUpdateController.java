@@ -1,27 +1,63 @@
 package com.example.HockeyPredictor.controller;
 
 import com.example.HockeyPredictor.service.SportsRadarService;
+import com.example.HockeyPredictor.service.WorkCoordinator;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 @RestController
 public class DataUpdateController {
 
+    private static final int MAX_BACKFILL_DAYS = 366;
+
     private final SportsRadarService sportsRadarService;
+    private final WorkCoordinator workCoordinator;
 
-    public DataUpdateController(SportsRadarService sportsRadarService) {
+    public DataUpdateController(SportsRadarService sportsRadarService, WorkCoordinator workCoordinator) {
         this.sportsRadarService = sportsRadarService;
+        this.workCoordinator = workCoordinator;
     }
 
     @GetMapping("/api/update-data")
-    public String updateData() {
+    public String updateData() throws Exception {
+        if (workCoordinator.isEnabled()) {
+            int queued = workCoordinator.enqueueFullUpdate();
+            return "Queued " + queued + " work items for all instances. Check logs for details.";
+        }
         sportsRadarService.updateAllFromSportsRadar();
         return "Data update triggered. Check logs for details.";
     }
 
+    /** Backfill past schedules and results, e.g. /api/backfill-schedule?from=2025-10-07&to=2025-11-30. */
+    @GetMapping("/api/backfill-schedule")
+    public String backfillSchedule(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_BACKFILL_DAYS) {
+            throw new IllegalArgumentException("Backfill at most " + MAX_BACKFILL_DAYS + " days at a time");
+        }
+        if (workCoordinator.isEnabled()) {
+            int queued = workCoordinator.enqueueScheduleRange(from, to);
+            return "Queued " + queued + " schedule work items for all instances. Check logs for details.";
+        }
+        sportsRadarService.backfillSchedule(from, to);
+        return "Schedule backfill finished. Check logs for details.";
+    }
+
     @GetMapping("/api/update-matchups")
     public String updateMatchups() {
-        sportsRadarService.fetchAndPopulateGamesForToday();
+        if (workCoordinator.isEnabled()) {
+            workCoordinator.enqueueSchedule(LocalDate.now());
+            return "Matchup update queued. Check logs for details.";
+        }
+        sportsRadarService.updateMatchupsFromSportsRadar();
         return "Data update triggered. Check logs for details.";
     }
 }
@@ -1,12 +1,14 @@
 package com.example.HockeyPredictor.controller;
 
+import com.example.HockeyPredictor.dto.GameListView;
 import com.example.HockeyPredictor.model.Game;
 import com.example.HockeyPredictor.service.GameService;
+import com.example.HockeyPredictor.service.SerializedResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/games")
 public class GameController {
@@ -14,10 +16,14 @@ public class GameController {
     @Autowired
     private GameService gameService;
 
-    // GET /api/games
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    // GET /api/games (teams referenced by id, names listed once; cached until games or teams change)
     @GetMapping
-    public List<Game> getAllGames() {
-        return gameService.getAllGames();
+    public ResponseEntity<byte[]> getAllGames() {
+        byte[] body = responseCache.get("games", () -> new GameListView(gameService.getAllGames()));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     // GET /api/games/{id}
@@ -0,0 +1,61 @@
+package com.example.HockeyPredictor.controller;
+
+import com.example.HockeyPredictor.dto.ModelInfo;
+import com.example.HockeyPredictor.dto.ModelRequest;
+import com.example.HockeyPredictor.dto.ModelScore;
+import com.example.HockeyPredictor.service.RatingModel;
+import com.example.HockeyPredictor.service.RatingModelRegistry;
+import com.example.HockeyPredictor.service.ShadowPredictionStore;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/models")
+public class ModelController {
+
+    private final RatingModelRegistry ratingModelRegistry;
+    private final ShadowPredictionStore shadowPredictionStore;
+
+    public ModelController(RatingModelRegistry ratingModelRegistry, ShadowPredictionStore shadowPredictionStore) {
+        this.ratingModelRegistry = ratingModelRegistry;
+        this.shadowPredictionStore = shadowPredictionStore;
+    }
+
+    // GET /api/models
+    @GetMapping
+    public List<ModelInfo> getModels() {
+        return ratingModelRegistry.getAll().stream().map(this::toInfo).toList();
+    }
+
+    // POST /api/models
+    @PostMapping
+    public ModelInfo registerModel(@RequestBody ModelRequest request) {
+        RatingModel model = ratingModelRegistry.register(request.getName(), request.getVersion(), request.getWeights());
+        if (request.isShadow()) ratingModelRegistry.setShadow(model.getKey(), true);
+        return toInfo(model);
+    }
+
+    // PUT /api/models/{key}/shadow?enabled=true
+    @PutMapping("/{key}/shadow")
+    public void setShadow(@PathVariable String key, @RequestParam(defaultValue = "true") boolean enabled) {
+        ratingModelRegistry.setShadow(key, enabled);
+    }
+
+    // PUT /api/models/{key}/promote
+    @PutMapping("/{key}/promote")
+    public void promote(@PathVariable String key) {
+        ratingModelRegistry.promote(key);
+    }
+
+    // GET /api/models/{key}/score
+    @GetMapping("/{key}/score")
+    public ModelScore score(@PathVariable String key) {
+        return shadowPredictionStore.score(key);
+    }
+
+    private ModelInfo toInfo(RatingModel model) {
+        return new ModelInfo(model.getKey(), model.getName(), model.getVersion(),
+                model == ratingModelRegistry.getProduction(), ratingModelRegistry.isShadow(model.getKey()));
+    }
+}
@@ -1,33 +1,93 @@
 package com.example.HockeyPredictor.controller;
 
-import com.example.HockeyPredictor.dto.GamePredictionResult;
 import com.example.HockeyPredictor.model.Game;
 import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
+import com.example.HockeyPredictor.service.BatchPredictionService;
 import com.example.HockeyPredictor.service.PredictionService;
+import com.example.HockeyPredictor.service.SerializedResponseCache;
+import com.example.HockeyPredictor.service.TeamSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 public class PredictionController {
 
+    private static final Logger log = LoggerFactory.getLogger(PredictionController.class);
+
     private final GameRepository gameRepository;
     private final PredictionService predictionService;
+    private final TeamSnapshotService teamSnapshotService;
+    private final BatchPredictionService batchPredictionService;
+    private final SerializedResponseCache responseCache;
 
-    public PredictionController(GameRepository gameRepository, PredictionService predictionService) {
+    public PredictionController(GameRepository gameRepository, PredictionService predictionService,
+                                TeamSnapshotService teamSnapshotService, BatchPredictionService batchPredictionService,
+                                SerializedResponseCache responseCache) {
         this.gameRepository = gameRepository;
         this.predictionService = predictionService;
+        this.teamSnapshotService = teamSnapshotService;
+        this.batchPredictionService = batchPredictionService;
+        this.responseCache = responseCache;
     }
 
     /**
      * Predict all games for today.
+     * Served from the team-stats snapshot until the database is up, or if it fails.
+     * The serialized result is cached until teams or games change.
      */
-    @GetMapping("/api/predict")
-    public List<GamePredictionResult> predictToday() {
+    @GetMapping(value = "/api/predict", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> predictToday() {
         LocalDate today = LocalDate.now();
-        List<Game> games = gameRepository.findByDate(today);
-        return predictionService.predictGamesForDate(games);
+        Optional<TeamStatsSnapshot> snapshot = teamSnapshotService.getSnapshotFor(today);
+        if (!teamSnapshotService.isDatabaseReady() && snapshot.isPresent()) {
+            return json(responseCache.serialize(predictionService.predictSnapshotGames(snapshot.get())));
+        }
+
+        try {
+            return json(responseCache.get("predict:" + today, () -> {
+                List<Game> games = gameRepository.findByDate(today);
+                return predictionService.predictGamesForDate(games);
+            }));
+        } catch (DataAccessException e) {
+            if (snapshot.isEmpty()) throw e;
+            log.warn("Database unavailable ({}); predicting from team-stats snapshot.", e.getMessage());
+            return json(responseCache.serialize(predictionService.predictSnapshotGames(snapshot.get())));
+        }
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Score hypothetical matchups. The body is NDJSON (or a JSON array) of
+     * {"id", "home", "away", "neutralSite", "homeOverrides", "awayOverrides"};
+     * results stream back as NDJSON in request order. Nothing is persisted or written to disk.
+     */
+    @PostMapping(value = "/api/predict/batch",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> predictBatch(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        StreamingResponseBody stream = out -> batchPredictionService.predict(body, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
     }
 }
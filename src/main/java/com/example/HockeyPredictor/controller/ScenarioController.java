@@ -0,0 +1,58 @@
+package com.example.HockeyPredictor.controller;
+
+import com.example.HockeyPredictor.dto.ScenarioPrediction;
+import com.example.HockeyPredictor.dto.ScenarioRequest;
+import com.example.HockeyPredictor.model.Scenario;
+import com.example.HockeyPredictor.service.ScenarioService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/scenarios")
+public class ScenarioController {
+
+    private final ScenarioService scenarioService;
+
+    public ScenarioController(ScenarioService scenarioService) {
+        this.scenarioService = scenarioService;
+    }
+
+    // GET /api/scenarios
+    @GetMapping
+    public Collection<Scenario> getAllScenarios() {
+        return scenarioService.getAllScenarios();
+    }
+
+    // GET /api/scenarios/{name}
+    @GetMapping("/{name}")
+    public Scenario getScenario(@PathVariable String name) {
+        return scenarioService.getScenario(name);
+    }
+
+    // POST /api/scenarios
+    @PostMapping
+    public Scenario createScenario(@RequestBody ScenarioRequest request) {
+        return scenarioService.createScenario(request);
+    }
+
+    // DELETE /api/scenarios/{name}
+    @DeleteMapping("/{name}")
+    public void deleteScenario(@PathVariable String name) {
+        scenarioService.deleteScenario(name);
+    }
+
+    // GET /api/scenarios/{name}/predict
+    @GetMapping("/{name}/predict")
+    public List<ScenarioPrediction> predictToday(@PathVariable String name) {
+        return scenarioService.predictToday(name);
+    }
+
+    // GET /api/scenarios/compare?names=a,b
+    @GetMapping("/compare")
+    public Map<String, List<ScenarioPrediction>> compareToday(@RequestParam List<String> names) {
+        return scenarioService.compareToday(names);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.HockeyPredictor.controller;
+
+import com.example.HockeyPredictor.dto.LeaderboardView;
+import com.example.HockeyPredictor.dto.StandingsView;
+import com.example.HockeyPredictor.dto.TeamRanking;
+import com.example.HockeyPredictor.service.StandingsService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class StandingsController {
+
+    private final StandingsService standingsService;
+
+    public StandingsController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    // GET /api/standings?groupBy=league|conference|division
+    @GetMapping("/standings")
+    public StandingsView getStandings(@RequestParam(defaultValue = "league") String groupBy) {
+        return standingsService.getStandings(groupBy);
+    }
+
+    // GET /api/standings/teams/{id}
+    @GetMapping("/standings/teams/{id}")
+    public TeamRanking getTeamRanking(@PathVariable Long id) {
+        return standingsService.getTeamRanking(id);
+    }
+
+    // GET /api/leaderboards
+    @GetMapping("/leaderboards")
+    public List<String> getMetrics() {
+        return standingsService.getMetrics();
+    }
+
+    // GET /api/leaderboards/{metric}?limit=10
+    @GetMapping("/leaderboards/{metric}")
+    public LeaderboardView getLeaderboard(@PathVariable String metric, @RequestParam(defaultValue = "10") int limit) {
+        return standingsService.getLeaderboard(metric, limit);
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.HockeyPredictor.controller;
 
+import com.example.HockeyPredictor.dto.TeamView;
 import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.service.SerializedResponseCache;
 import com.example.HockeyPredictor.service.TeamService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/teams")
 public class TeamController {
@@ -14,10 +16,15 @@ public class TeamController {
     @Autowired
     private TeamService teamService;
 
-    // GET /api/teams
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    // GET /api/teams (pre-serialized, cached until teams change)
     @GetMapping
-    public List<Team> getAllTeams() {
-        return teamService.getAllTeams();
+    public ResponseEntity<byte[]> getAllTeams() {
+        byte[] body = responseCache.get("teams",
+                () -> teamService.getAllTeams().stream().map(TeamView::new).toList());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     // GET /api/teams/{id}
@@ -0,0 +1,35 @@
+package com.example.HockeyPredictor.dto;
+
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /api/games body: each team appears once in the dictionary, keyed by id,
+ * instead of being nested (twice) in every game.
+ */
+public class GameListView {
+    private final Map<Long, String> teams = new LinkedHashMap<>();   // team id -> name
+    private final List<GameView> games = new ArrayList<>();
+
+    public GameListView(List<Game> games) {
+        for (Game g : games) {
+            addTeam(g.getHomeTeam());
+            addTeam(g.getAwayTeam());
+            this.games.add(new GameView(g));
+        }
+    }
+
+    private void addTeam(Team t) {
+        if (t != null) teams.putIfAbsent(t.getId(), t.getName());
+    }
+
+    // getters
+
+    public Map<Long, String> getTeams() { return teams; }
+    public List<GameView> getGames() { return games; }
+}
@@ -8,6 +8,10 @@ public class GamePredictionResult {
     private double probability;       // 0.0 - 1.0
     private String americanOdds;      // e.g. "-155" or "+210"
     private String notes;
+    // Uncertainty of the winner's probability (see UncertaintyService); null if it wasn't computed
+    private ProbabilityInterval interval80;
+    private ProbabilityInterval interval95;
+    private String fairOddsRange;     // fair odds at both ends of the 80% interval, e.g. "-128 to -171"
 
     public GamePredictionResult() {}
 
@@ -44,4 +48,13 @@ public class GamePredictionResult {
 
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
+
+    public ProbabilityInterval getInterval80() { return interval80; }
+    public void setInterval80(ProbabilityInterval interval80) { this.interval80 = interval80; }
+
+    public ProbabilityInterval getInterval95() { return interval95; }
+    public void setInterval95(ProbabilityInterval interval95) { this.interval95 = interval95; }
+
+    public String getFairOddsRange() { return fairOddsRange; }
+    public void setFairOddsRange(String fairOddsRange) { this.fairOddsRange = fairOddsRange; }
 }
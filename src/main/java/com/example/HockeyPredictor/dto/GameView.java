@@ -0,0 +1,35 @@
+package com.example.HockeyPredictor.dto;
+
+import com.example.HockeyPredictor.model.Game;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for a game; teams are referenced by id (see GameListView.teams).
+ */
+public class GameView {
+    private final Long id;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final int homeTeamGoals;
+    private final int awayTeamGoals;
+    private final LocalDate date;
+
+    public GameView(Game g) {
+        this.id = g.getId();
+        this.homeTeamId = g.getHomeTeam() == null ? null : g.getHomeTeam().getId();
+        this.awayTeamId = g.getAwayTeam() == null ? null : g.getAwayTeam().getId();
+        this.homeTeamGoals = g.getHomeTeamGoals();
+        this.awayTeamGoals = g.getAwayTeamGoals();
+        this.date = g.getDate();
+    }
+
+    // getters
+
+    public Long getId() { return id; }
+    public Long getHomeTeamId() { return homeTeamId; }
+    public Long getAwayTeamId() { return awayTeamId; }
+    public int getHomeTeamGoals() { return homeTeamGoals; }
+    public int getAwayTeamGoals() { return awayTeamGoals; }
+    public LocalDate getDate() { return date; }
+}
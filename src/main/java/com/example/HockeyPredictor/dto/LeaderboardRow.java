@@ -0,0 +1,23 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * A team's place on one leaderboard. Teams with equal values share a rank.
+ */
+public class LeaderboardRow {
+    private final int rank;
+    private final Long teamId;
+    private final String team;
+    private final double value;
+
+    public LeaderboardRow(int rank, Long teamId, String team, double value) {
+        this.rank = rank;
+        this.teamId = teamId;
+        this.team = team;
+        this.value = value;
+    }
+
+    public int getRank() { return rank; }
+    public Long getTeamId() { return teamId; }
+    public String getTeam() { return team; }
+    public double getValue() { return value; }
+}
@@ -0,0 +1,22 @@
+package com.example.HockeyPredictor.dto;
+
+import java.util.List;
+
+/**
+ * Top of one leaderboard (a stat or the model rating).
+ */
+public class LeaderboardView {
+    private final long version;
+    private final String metric;
+    private final List<LeaderboardRow> rows;
+
+    public LeaderboardView(long version, String metric, List<LeaderboardRow> rows) {
+        this.version = version;
+        this.metric = metric;
+        this.rows = rows;
+    }
+
+    public long getVersion() { return version; }
+    public String getMetric() { return metric; }
+    public List<LeaderboardRow> getRows() { return rows; }
+}
@@ -0,0 +1,65 @@
+package com.example.HockeyPredictor.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result line of a batch prediction. If the matchup couldn't be evaluated
+ * only id and error are set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatchupPrediction {
+    private String id;
+    private String homeTeam;
+    private String awayTeam;
+    private String predictedWinner;
+    private Double homeWinProbability;  // 0.0 - 1.0
+    private Double probability;         // winner's probability, rounded like GamePredictionResult
+    private String americanOdds;
+    private String error;
+
+    public MatchupPrediction() {}
+
+    public MatchupPrediction(String id, String homeTeam, String awayTeam, String predictedWinner,
+                             double homeWinProbability, double probability, String americanOdds) {
+        this.id = id;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.predictedWinner = predictedWinner;
+        this.homeWinProbability = homeWinProbability;
+        this.probability = probability;
+        this.americanOdds = americanOdds;
+    }
+
+    public static MatchupPrediction failed(String id, String error) {
+        MatchupPrediction p = new MatchupPrediction();
+        p.id = id;
+        p.error = error;
+        return p;
+    }
+
+    // getters / setters
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getHomeTeam() { return homeTeam; }
+    public void setHomeTeam(String homeTeam) { this.homeTeam = homeTeam; }
+
+    public String getAwayTeam() { return awayTeam; }
+    public void setAwayTeam(String awayTeam) { this.awayTeam = awayTeam; }
+
+    public String getPredictedWinner() { return predictedWinner; }
+    public void setPredictedWinner(String predictedWinner) { this.predictedWinner = predictedWinner; }
+
+    public Double getHomeWinProbability() { return homeWinProbability; }
+    public void setHomeWinProbability(Double homeWinProbability) { this.homeWinProbability = homeWinProbability; }
+
+    public Double getProbability() { return probability; }
+    public void setProbability(Double probability) { this.probability = probability; }
+
+    public String getAmericanOdds() { return americanOdds; }
+    public void setAmericanOdds(String americanOdds) { this.americanOdds = americanOdds; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,39 @@
+package com.example.HockeyPredictor.dto;
+
+import java.util.Map;
+
+/**
+ * One hypothetical matchup in a batch prediction request.
+ * Teams are referenced by id or name; overrides replace individual
+ * feature values (see TeamFeatures) for this matchup only.
+ */
+public class MatchupRequest {
+    private String id;                           // optional client tag, echoed back
+    private String home;
+    private String away;
+    private boolean neutralSite;                 // no home-ice advantage
+    private Map<String, Double> homeOverrides;   // e.g. {"savePercentage": 0.885}
+    private Map<String, Double> awayOverrides;
+
+    public MatchupRequest() {}
+
+    // getters / setters
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getHome() { return home; }
+    public void setHome(String home) { this.home = home; }
+
+    public String getAway() { return away; }
+    public void setAway(String away) { this.away = away; }
+
+    public boolean isNeutralSite() { return neutralSite; }
+    public void setNeutralSite(boolean neutralSite) { this.neutralSite = neutralSite; }
+
+    public Map<String, Double> getHomeOverrides() { return homeOverrides; }
+    public void setHomeOverrides(Map<String, Double> homeOverrides) { this.homeOverrides = homeOverrides; }
+
+    public Map<String, Double> getAwayOverrides() { return awayOverrides; }
+    public void setAwayOverrides(Map<String, Double> awayOverrides) { this.awayOverrides = awayOverrides; }
+}
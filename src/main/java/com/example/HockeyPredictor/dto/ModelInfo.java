@@ -0,0 +1,26 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * A registered rating model and its role.
+ */
+public class ModelInfo {
+    private final String key;
+    private final String name;
+    private final String version;
+    private final boolean production;
+    private final boolean shadow;
+
+    public ModelInfo(String key, String name, String version, boolean production, boolean shadow) {
+        this.key = key;
+        this.name = name;
+        this.version = version;
+        this.production = production;
+        this.shadow = shadow;
+    }
+
+    public String getKey() { return key; }
+    public String getName() { return name; }
+    public String getVersion() { return version; }
+    public boolean isProduction() { return production; }
+    public boolean isShadow() { return shadow; }
+}
@@ -0,0 +1,31 @@
+package com.example.HockeyPredictor.dto;
+
+import com.example.HockeyPredictor.model.RatingWeights;
+
+/**
+ * Body for registering a weighted-model configuration, e.g.
+ * {"name": "baseline", "version": "2", "weights": {"savePct": 0.12}, "shadow": true}.
+ * Weights that are left out keep the production defaults.
+ */
+public class ModelRequest {
+    private String name;
+    private String version;
+    private RatingWeights weights;
+    private boolean shadow;
+
+    public ModelRequest() {}
+
+    // getters / setters
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public RatingWeights getWeights() { return weights; }
+    public void setWeights(RatingWeights weights) { this.weights = weights; }
+
+    public boolean isShadow() { return shadow; }
+    public void setShadow(boolean shadow) { this.shadow = shadow; }
+}
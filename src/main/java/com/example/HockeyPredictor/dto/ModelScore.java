@@ -0,0 +1,37 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * How a shadow model did on completed games, next to the production predictions
+ * made for the same games. Lower Brier score and log loss are better.
+ */
+public class ModelScore {
+    private final String modelKey;
+    private final int games;
+    private final double brierScore;
+    private final double logLoss;
+    private final double accuracy;
+    private final double productionBrierScore;
+    private final double productionLogLoss;
+    private final double productionAccuracy;
+
+    public ModelScore(String modelKey, int games, double brierScore, double logLoss, double accuracy,
+                      double productionBrierScore, double productionLogLoss, double productionAccuracy) {
+        this.modelKey = modelKey;
+        this.games = games;
+        this.brierScore = brierScore;
+        this.logLoss = logLoss;
+        this.accuracy = accuracy;
+        this.productionBrierScore = productionBrierScore;
+        this.productionLogLoss = productionLogLoss;
+        this.productionAccuracy = productionAccuracy;
+    }
+
+    public String getModelKey() { return modelKey; }
+    public int getGames() { return games; }
+    public double getBrierScore() { return brierScore; }
+    public double getLogLoss() { return logLoss; }
+    public double getAccuracy() { return accuracy; }
+    public double getProductionBrierScore() { return productionBrierScore; }
+    public double getProductionLogLoss() { return productionLogLoss; }
+    public double getProductionAccuracy() { return productionAccuracy; }
+}
@@ -0,0 +1,24 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * A range for a win probability (0.0 - 1.0), e.g. the central 80% of bootstrap samples.
+ */
+public class ProbabilityInterval {
+    private double low;
+    private double high;
+
+    public ProbabilityInterval() {}
+
+    public ProbabilityInterval(double low, double high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    // getters / setters
+
+    public double getLow() { return low; }
+    public void setLow(double low) { this.low = low; }
+
+    public double getHigh() { return high; }
+    public void setHigh(double high) { this.high = high; }
+}
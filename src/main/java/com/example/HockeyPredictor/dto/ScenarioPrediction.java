@@ -0,0 +1,55 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * A game's prediction under a scenario, next to the unmodified baseline.
+ */
+public class ScenarioPrediction {
+    private Long gameId;
+    private String homeTeam;
+    private String awayTeam;
+    private double baselineHomeProbability;   // 0.0 - 1.0
+    private double scenarioHomeProbability;
+    private double homeProbabilityChange;     // scenario - baseline
+    private String predictedWinner;           // under the scenario
+    private String americanOdds;              // under the scenario
+
+    public ScenarioPrediction() {}
+
+    public ScenarioPrediction(Long gameId, String homeTeam, String awayTeam, double baselineHomeProbability,
+                              double scenarioHomeProbability, String predictedWinner, String americanOdds) {
+        this.gameId = gameId;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.baselineHomeProbability = baselineHomeProbability;
+        this.scenarioHomeProbability = scenarioHomeProbability;
+        this.homeProbabilityChange = scenarioHomeProbability - baselineHomeProbability;
+        this.predictedWinner = predictedWinner;
+        this.americanOdds = americanOdds;
+    }
+
+    // getters / setters
+
+    public Long getGameId() { return gameId; }
+    public void setGameId(Long gameId) { this.gameId = gameId; }
+
+    public String getHomeTeam() { return homeTeam; }
+    public void setHomeTeam(String homeTeam) { this.homeTeam = homeTeam; }
+
+    public String getAwayTeam() { return awayTeam; }
+    public void setAwayTeam(String awayTeam) { this.awayTeam = awayTeam; }
+
+    public double getBaselineHomeProbability() { return baselineHomeProbability; }
+    public void setBaselineHomeProbability(double baselineHomeProbability) { this.baselineHomeProbability = baselineHomeProbability; }
+
+    public double getScenarioHomeProbability() { return scenarioHomeProbability; }
+    public void setScenarioHomeProbability(double scenarioHomeProbability) { this.scenarioHomeProbability = scenarioHomeProbability; }
+
+    public double getHomeProbabilityChange() { return homeProbabilityChange; }
+    public void setHomeProbabilityChange(double homeProbabilityChange) { this.homeProbabilityChange = homeProbabilityChange; }
+
+    public String getPredictedWinner() { return predictedWinner; }
+    public void setPredictedWinner(String predictedWinner) { this.predictedWinner = predictedWinner; }
+
+    public String getAmericanOdds() { return americanOdds; }
+    public void setAmericanOdds(String americanOdds) { this.americanOdds = americanOdds; }
+}
@@ -0,0 +1,26 @@
+package com.example.HockeyPredictor.dto;
+
+import java.util.Map;
+
+/**
+ * Body for creating a what-if scenario: team id -> (feature name -> delta),
+ * e.g. {"name": "bos-goalie-out", "deltas": {"3": {"savePercentage": -0.015}}}.
+ */
+public class ScenarioRequest {
+    private String name;
+    private String description;
+    private Map<Long, Map<String, Double>> deltas;
+
+    public ScenarioRequest() {}
+
+    // getters / setters
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Map<Long, Map<String, Double>> getDeltas() { return deltas; }
+    public void setDeltas(Map<Long, Map<String, Double>> deltas) { this.deltas = deltas; }
+}
@@ -0,0 +1,64 @@
+package com.example.HockeyPredictor.dto;
+
+/**
+ * One team's line in the standings, with its rank in each grouping.
+ */
+public class StandingRow {
+    private final Long teamId;
+    private final String team;
+    private final String conference;
+    private final String division;
+    private final int gamesPlayed;
+    private final int wins;
+    private final int losses;
+    private final int overtimeLosses;
+    private final int points;
+    private final double pointsPercentage;   // points / (2 * games played)
+    private final int goalDifferential;
+    private final int goalsFor;
+    private final double rating;             // model rating, neutral site
+    private final int leagueRank;
+    private final int conferenceRank;
+    private final int divisionRank;
+
+    public StandingRow(Long teamId, String team, String conference, String division, int gamesPlayed,
+                       int wins, int losses, int overtimeLosses, int points, double pointsPercentage,
+                       int goalDifferential, int goalsFor, double rating,
+                       int leagueRank, int conferenceRank, int divisionRank) {
+        this.teamId = teamId;
+        this.team = team;
+        this.conference = conference;
+        this.division = division;
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+        this.losses = losses;
+        this.overtimeLosses = overtimeLosses;
+        this.points = points;
+        this.pointsPercentage = pointsPercentage;
+        this.goalDifferential = goalDifferential;
+        this.goalsFor = goalsFor;
+        this.rating = rating;
+        this.leagueRank = leagueRank;
+        this.conferenceRank = conferenceRank;
+        this.divisionRank = divisionRank;
+    }
+
+    // getters
+
+    public Long getTeamId() { return teamId; }
+    public String getTeam() { return team; }
+    public String getConference() { return conference; }
+    public String getDivision() { return division; }
+    public int getGamesPlayed() { return gamesPlayed; }
+    public int getWins() { return wins; }
+    public int getLosses() { return losses; }
+    public int getOvertimeLosses() { return overtimeLosses; }
+    public int getPoints() { return points; }
+    public double getPointsPercentage() { return pointsPercentage; }
+    public int getGoalDifferential() { return goalDifferential; }
+    public int getGoalsFor() { return goalsFor; }
+    public double getRating() { return rating; }
+    public int getLeagueRank() { return leagueRank; }
+    public int getConferenceRank() { return conferenceRank; }
+    public int getDivisionRank() { return divisionRank; }
+}
@@ -0,0 +1,23 @@
+package com.example.HockeyPredictor.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Standings grouped by league, conference or division, all from one version of the read model.
+ */
+public class StandingsView {
+    private final long version;
+    private final String groupBy;
+    private final Map<String, List<StandingRow>> groups;
+
+    public StandingsView(long version, String groupBy, Map<String, List<StandingRow>> groups) {
+        this.version = version;
+        this.groupBy = groupBy;
+        this.groups = groups;
+    }
+
+    public long getVersion() { return version; }
+    public String getGroupBy() { return groupBy; }
+    public Map<String, List<StandingRow>> getGroups() { return groups; }
+}
@@ -0,0 +1,22 @@
+package com.example.HockeyPredictor.dto;
+
+import java.util.Map;
+
+/**
+ * Where one team stands: its standings line plus its rank on every leaderboard.
+ */
+public class TeamRanking {
+    private final long version;
+    private final StandingRow standing;
+    private final Map<String, Integer> leaderboardRanks;
+
+    public TeamRanking(long version, StandingRow standing, Map<String, Integer> leaderboardRanks) {
+        this.version = version;
+        this.standing = standing;
+        this.leaderboardRanks = leaderboardRanks;
+    }
+
+    public long getVersion() { return version; }
+    public StandingRow getStanding() { return standing; }
+    public Map<String, Integer> getLeaderboardRanks() { return leaderboardRanks; }
+}
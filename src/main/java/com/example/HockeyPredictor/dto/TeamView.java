@@ -0,0 +1,90 @@
+package com.example.HockeyPredictor.dto;
+
+import com.example.HockeyPredictor.model.Team;
+
+/**
+ * Read model for a team, decoupled from the JPA entity.
+ */
+public class TeamView {
+    private final Long id;
+    private final String name;
+    private final String conference;
+    private final String division;
+    private final int wins;
+    private final int losses;
+    private final int overtimeLosses;
+    private final int points;
+    private final int goalsFor;
+    private final int goalsAgainst;
+    private final int goalDifferential;
+    private final int shotsFor;
+    private final int shotsAgainst;
+    private final int hits;
+    private final int powerplays;
+    private final int penalties;
+    private final double powerplayPercentage;
+    private final double penaltyKillPercentage;
+    private final double savePercentage;
+    private final int giveaways;
+    private final int takeaways;
+    private final int corsiFor;
+    private final int corsiAgainst;
+    private final int fenwickFor;
+    private final int fenwickAgainst;
+
+    public TeamView(Team t) {
+        this.id = t.getId();
+        this.name = t.getName();
+        this.conference = t.getConference();
+        this.division = t.getDivision();
+        this.wins = t.getWins();
+        this.losses = t.getLosses();
+        this.overtimeLosses = t.getOvertimeLosses();
+        this.points = t.getPoints();
+        this.goalsFor = t.getGoalsFor();
+        this.goalsAgainst = t.getGoalsAgainst();
+        this.goalDifferential = t.getGoalDifferential();
+        this.shotsFor = t.getShotsFor();
+        this.shotsAgainst = t.getShotsAgainst();
+        this.hits = t.getHits();
+        this.powerplays = t.getPowerplays();
+        this.penalties = t.getPenalties();
+        this.powerplayPercentage = t.getPowerplayPercentage();
+        this.penaltyKillPercentage = t.getPenaltyKillPercentage();
+        this.savePercentage = t.getSavePercentage();
+        this.giveaways = t.getGiveaways();
+        this.takeaways = t.getTakeaways();
+        this.corsiFor = t.getCorsiFor();
+        this.corsiAgainst = t.getCorsiAgainst();
+        this.fenwickFor = t.getFenwickFor();
+        this.fenwickAgainst = t.getFenwickAgainst();
+    }
+
+    // getters
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getConference() { return conference; }
+    public String getDivision() { return division; }
+    public int getWins() { return wins; }
+    public int getLosses() { return losses; }
+    public int getOvertimeLosses() { return overtimeLosses; }
+    public int getPoints() { return points; }
+    public int getGoalsFor() { return goalsFor; }
+    public int getGoalsAgainst() { return goalsAgainst; }
+    public int getGoalDifferential() { return goalDifferential; }
+    public int getShotsFor() { return shotsFor; }
+    public int getShotsAgainst() { return shotsAgainst; }
+    public int getHits() { return hits; }
+    public int getPowerplays() { return powerplays; }
+    public int getPenalties() { return penalties; }
+    public double getPowerplayPercentage() { return powerplayPercentage; }
+    public double getPenaltyKillPercentage() { return penaltyKillPercentage; }
+    public double getSavePercentage() { return savePercentage; }
+    public int getGiveaways() { return giveaways; }
+    public int getTakeaways() { return takeaways; }
+    public int getCorsiFor() { return corsiFor; }
+    public int getCorsiAgainst() { return corsiAgainst; }
+    public int getFenwickFor() { return fenwickFor; }
+    public int getFenwickAgainst() { return fenwickAgainst; }
+}
@@ -0,0 +1,17 @@
+package com.example.HockeyPredictor.event;
+
+import java.util.Set;
+
+/**
+ * Published after Game rows are inserted, updated (e.g. final scores) or deleted.
+ */
+public class GamesChangedEvent {
+
+    private final Set<Long> gameIds;
+
+    public GamesChangedEvent(Set<Long> gameIds) {
+        this.gameIds = Set.copyOf(gameIds);
+    }
+
+    public Set<Long> getGameIds() { return gameIds; }
+}
@@ -0,0 +1,16 @@
+package com.example.HockeyPredictor.event;
+
+/**
+ * Published when another rating model is promoted to production; every
+ * prediction and rating derived from the old one is stale.
+ */
+public class ProductionModelChangedEvent {
+
+    private final String modelKey;
+
+    public ProductionModelChangedEvent(String modelKey) {
+        this.modelKey = modelKey;
+    }
+
+    public String getModelKey() { return modelKey; }
+}
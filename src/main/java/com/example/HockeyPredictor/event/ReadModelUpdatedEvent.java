@@ -0,0 +1,18 @@
+package com.example.HockeyPredictor.event;
+
+/**
+ * Published by an in-memory read model (feature index, schedule context, standings)
+ * once it has swapped in the data from a change event. Anything derived from the
+ * read models, such as cached responses, should be rebuilt after this, not after the
+ * change event itself: listeners of one event run in no guaranteed order.
+ */
+public class ReadModelUpdatedEvent {
+
+    private final String readModel;
+
+    public ReadModelUpdatedEvent(String readModel) {
+        this.readModel = readModel;
+    }
+
+    public String getReadModel() { return readModel; }
+}
@@ -0,0 +1,19 @@
+package com.example.HockeyPredictor.event;
+
+import java.util.Set;
+
+/**
+ * Published once the stored inputs of one or more team ratings have changed
+ * (ingest, team edits, a new strength-of-schedule solve). Only the affected
+ * teams are listed; a team that no longer exists has been deleted.
+ */
+public class TeamRatingsChangedEvent {
+
+    private final Set<Long> teamIds;
+
+    public TeamRatingsChangedEvent(Set<Long> teamIds) {
+        this.teamIds = Set.copyOf(teamIds);
+    }
+
+    public Set<Long> getTeamIds() { return teamIds; }
+}
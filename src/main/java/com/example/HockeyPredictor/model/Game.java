@@ -2,8 +2,14 @@ package com.example.HockeyPredictor.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.Month;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_game_season_date", columnList = "season, date"),
+        @Index(name = "idx_game_home_team_date", columnList = "home_team_id, date"),
+        @Index(name = "idx_game_away_team_date", columnList = "away_team_id, date")
+})
 public class Game {
 
     @Id
@@ -23,6 +29,9 @@ public class Game {
 
     private LocalDate date;
 
+    // Start year of the season the game belongs to (2025 = 2025-26); derived from the date
+    private Integer season;
+
     public Game() {}
 
     public Game(Team homeTeam, Team awayTeam, int homeTeamGoals, int awayTeamGoals, LocalDate date) {
@@ -30,7 +39,22 @@ public class Game {
         this.awayTeam = awayTeam;
         this.homeTeamGoals = homeTeamGoals;
         this.awayTeamGoals = awayTeamGoals;
-        this.date = date;
+        setDate(date);
+    }
+
+    /** Season runs July -> next June and is keyed by the year it starts in. */
+    public static int seasonOf(LocalDate date) {
+        return (date.getMonthValue() >= Month.JULY.getValue()) ? date.getYear() : date.getYear() - 1;
+    }
+
+    public static LocalDate seasonStart(int season) {
+        return LocalDate.of(season, Month.JULY, 1);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void assignSeason() {
+        season = (date == null) ? null : seasonOf(date);
     }
 
     // Getters and Setters
@@ -44,5 +68,9 @@ public class Game {
     public int getAwayTeamGoals() { return awayTeamGoals; }
     public void setAwayTeamGoals(int goals) { this.awayTeamGoals = goals; }
     public LocalDate getDate() { return date; }
-    public void setDate(LocalDate date) { this.date = date; }
+    public void setDate(LocalDate date) {
+        this.date = date;
+        assignSeason();
+    }
+    public Integer getSeason() { return season; }
 }
@@ -0,0 +1,61 @@
+package com.example.HockeyPredictor.model;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Read-only, column-oriented view of one archived season (see GameSegmentFile).
+ * Rows are in date order; each accessor reads straight out of the mapped file, so a
+ * scan over one column touches only that column's bytes.
+ */
+public class GameSegment {
+
+    private final int season;
+    private final long createdAtMillis;
+    private final int rowCount;
+
+    private final long[] teamIds;      // dictionary: rows store an index into these
+    private final String[] teamNames;
+
+    private final ByteBuffer buf;
+    private final int gameIdsAt;       // long per row
+    private final int dayOffsetsAt;    // unsigned short per row, days since the season start
+    private final int homeTeamsAt;     // unsigned byte per row
+    private final int awayTeamsAt;
+    private final int homeGoalsAt;
+    private final int awayGoalsAt;
+
+    public GameSegment(int season, long createdAtMillis, int rowCount, long[] teamIds, String[] teamNames,
+                       ByteBuffer buf, int columnsAt) {
+        this.season = season;
+        this.createdAtMillis = createdAtMillis;
+        this.rowCount = rowCount;
+        this.teamIds = teamIds;
+        this.teamNames = teamNames;
+        this.buf = buf;
+        this.gameIdsAt = columnsAt;
+        this.dayOffsetsAt = gameIdsAt + rowCount * Long.BYTES;
+        this.homeTeamsAt = dayOffsetsAt + rowCount * Short.BYTES;
+        this.awayTeamsAt = homeTeamsAt + rowCount;
+        this.homeGoalsAt = awayTeamsAt + rowCount;
+        this.awayGoalsAt = homeGoalsAt + rowCount;
+    }
+
+    public int getSeason() { return season; }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public int getRowCount() { return rowCount; }
+
+    public int getTeamCount() { return teamIds.length; }
+    public long getTeamId(int i) { return teamIds[i]; }
+    public String getTeamName(int i) { return teamNames[i]; }
+
+    public long getGameId(int row) { return buf.getLong(gameIdsAt + row * Long.BYTES); }
+    public int getDayOffset(int row) { return Short.toUnsignedInt(buf.getShort(dayOffsetsAt + row * Short.BYTES)); }
+    public LocalDate getDate(int row) { return Game.seasonStart(season).plusDays(getDayOffset(row)); }
+    public int getHomeTeamIndex(int row) { return Byte.toUnsignedInt(buf.get(homeTeamsAt + row)); }
+    public int getAwayTeamIndex(int row) { return Byte.toUnsignedInt(buf.get(awayTeamsAt + row)); }
+    public long getHomeTeamId(int row) { return teamIds[getHomeTeamIndex(row)]; }
+    public long getAwayTeamId(int row) { return teamIds[getAwayTeamIndex(row)]; }
+    public int getHomeGoals(int row) { return Byte.toUnsignedInt(buf.get(homeGoalsAt + row)); }
+    public int getAwayGoals(int row) { return Byte.toUnsignedInt(buf.get(awayGoalsAt + row)); }
+}
@@ -0,0 +1,81 @@
+package com.example.HockeyPredictor.model;
+
+/**
+ * Weights of the weighted rating model (see WeightedRatingModel). The defaults are the
+ * production model's; a request body only needs the fields it changes.
+ */
+public class RatingWeights {
+
+    // Tunable category weights (derived from analytics and hockey metrics studies)
+    private double winPct = 0.30;        // Overall success rate
+    private double goalDiff = 0.12;      // Strong predictor of true talent
+    private double savePct = 0.08;       // Goaltending stability
+    private double specialTeams = 0.12;  // Power play & PK effect
+    private double shotsFor = 0.03;      // Offensive pressure
+    private double shotsAgainst = 0.03;  // Defensive consistency
+    private double corsiDiff = 0.06;     // Possession control
+    private double fenwickDiff = 0.06;   // Shot quality proxy
+    private double hitsPen = 0.06;       // Physicality vs. discipline
+    private double turnovers = 0.08;     // Puck management
+
+    // Schedule context of the game (fatigue)
+    private double rest = 0.03;          // Per day of rest below / above one day off (capped at two)
+    private double backToBack = 0.05;    // Second night of a back-to-back
+    private double recentGames = 0.02;   // Per game beyond three in the last seven days
+    private double travel = 0.02;        // Previous game in another arena
+
+    private double homeAdvantage = 0.06; // ~5% home edge
+    private double logisticK = 1.25;     // Reasonable steepness for diff→prob
+
+    public RatingWeights() {}
+
+    // getters / setters
+
+    public double getWinPct() { return winPct; }
+    public void setWinPct(double winPct) { this.winPct = winPct; }
+
+    public double getGoalDiff() { return goalDiff; }
+    public void setGoalDiff(double goalDiff) { this.goalDiff = goalDiff; }
+
+    public double getSavePct() { return savePct; }
+    public void setSavePct(double savePct) { this.savePct = savePct; }
+
+    public double getSpecialTeams() { return specialTeams; }
+    public void setSpecialTeams(double specialTeams) { this.specialTeams = specialTeams; }
+
+    public double getShotsFor() { return shotsFor; }
+    public void setShotsFor(double shotsFor) { this.shotsFor = shotsFor; }
+
+    public double getShotsAgainst() { return shotsAgainst; }
+    public void setShotsAgainst(double shotsAgainst) { this.shotsAgainst = shotsAgainst; }
+
+    public double getCorsiDiff() { return corsiDiff; }
+    public void setCorsiDiff(double corsiDiff) { this.corsiDiff = corsiDiff; }
+
+    public double getFenwickDiff() { return fenwickDiff; }
+    public void setFenwickDiff(double fenwickDiff) { this.fenwickDiff = fenwickDiff; }
+
+    public double getHitsPen() { return hitsPen; }
+    public void setHitsPen(double hitsPen) { this.hitsPen = hitsPen; }
+
+    public double getTurnovers() { return turnovers; }
+    public void setTurnovers(double turnovers) { this.turnovers = turnovers; }
+
+    public double getRest() { return rest; }
+    public void setRest(double rest) { this.rest = rest; }
+
+    public double getBackToBack() { return backToBack; }
+    public void setBackToBack(double backToBack) { this.backToBack = backToBack; }
+
+    public double getRecentGames() { return recentGames; }
+    public void setRecentGames(double recentGames) { this.recentGames = recentGames; }
+
+    public double getTravel() { return travel; }
+    public void setTravel(double travel) { this.travel = travel; }
+
+    public double getHomeAdvantage() { return homeAdvantage; }
+    public void setHomeAdvantage(double homeAdvantage) { this.homeAdvantage = homeAdvantage; }
+
+    public double getLogisticK() { return logisticK; }
+    public void setLogisticK(double logisticK) { this.logisticK = logisticK; }
+}
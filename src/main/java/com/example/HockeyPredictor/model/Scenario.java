@@ -0,0 +1,56 @@
+package com.example.HockeyPredictor.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable what-if overlay: per-team additive deltas on the feature vector
+ * (see TeamFeatures), e.g. "starter goalie out" = savePercentage -0.015.
+ * Applying it never modifies the base vector; affected teams get one clone.
+ */
+public class Scenario {
+
+    private final String name;
+    private final String description;
+    private final Instant createdAt;
+    private final Map<Long, double[]> deltasByTeam;   // full-length delta vector per affected team
+
+    public Scenario(String name, String description, Map<Long, double[]> deltasByTeam) {
+        this.name = name;
+        this.description = description;
+        this.createdAt = Instant.now();
+        Map<Long, double[]> copy = new HashMap<>();
+        deltasByTeam.forEach((teamId, deltas) -> copy.put(teamId, deltas.clone()));
+        this.deltasByTeam = Collections.unmodifiableMap(copy);
+    }
+
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public Instant getCreatedAt() { return createdAt; }
+
+    /** Non-zero deltas keyed by team id and feature name, for display. */
+    public Map<Long, Map<String, Double>> getDeltas() {
+        Map<Long, Map<String, Double>> named = new HashMap<>();
+        deltasByTeam.forEach((teamId, deltas) -> {
+            Map<String, Double> byFeature = new HashMap<>();
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0.0) byFeature.put(TeamFeatures.nameOf(i), deltas[i]);
+            }
+            named.put(teamId, byFeature);
+        });
+        return named;
+    }
+
+    /** The base vector itself if this scenario doesn't touch the team, otherwise a modified clone. */
+    public double[] apply(long teamId, double[] base) {
+        double[] deltas = deltasByTeam.get(teamId);
+        if (deltas == null) return base;
+        double[] f = base.clone();
+        for (int i = 0; i < f.length; i++) {
+            f[i] += deltas[i];
+        }
+        return f;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.HockeyPredictor.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A shadow model's home win probability for a scheduled game, stored next to what
+ * the production model said, so the two can be scored once the result is in.
+ */
+@Entity
+@Table(name = "shadow_prediction", indexes = @Index(name = "idx_shadow_prediction_model", columnList = "model_key, game_id"))
+public class ShadowPrediction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id")
+    private Long gameId;
+    private LocalDate gameDate;
+
+    @Column(name = "model_key")
+    private String modelKey;
+    private double homeWinProbability;
+
+    private String productionModelKey;
+    private double productionHomeWinProbability;
+
+    private Instant createdAt;
+
+    public ShadowPrediction() {}
+
+    public ShadowPrediction(Long gameId, LocalDate gameDate, String modelKey, double homeWinProbability,
+                            String productionModelKey, double productionHomeWinProbability, Instant createdAt) {
+        this.gameId = gameId;
+        this.gameDate = gameDate;
+        this.modelKey = modelKey;
+        this.homeWinProbability = homeWinProbability;
+        this.productionModelKey = productionModelKey;
+        this.productionHomeWinProbability = productionHomeWinProbability;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getGameId() { return gameId; }
+    public LocalDate getGameDate() { return gameDate; }
+    public String getModelKey() { return modelKey; }
+    public double getHomeWinProbability() { return homeWinProbability; }
+    public String getProductionModelKey() { return productionModelKey; }
+    public double getProductionHomeWinProbability() { return productionHomeWinProbability; }
+    public Instant getCreatedAt() { return createdAt; }
+}
@@ -1,5 +1,6 @@
 package com.example.HockeyPredictor.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -13,6 +14,8 @@ public class Team {
     private Long id;
 
     private String name;
+    private String conference;
+    private String division;
     private int wins;
     private int losses;
     private int overtimeLosses;
@@ -38,6 +41,10 @@ public class Team {
     private int opponentsCorsiFor;
     private int opponentsFenwickFor;
 
+    // Hash of the stat fields as last written (see TeamFingerprint); lets ingest skip unchanged teams
+    @JsonIgnore
+    private Long statsFingerprint;
+
     // Constructors
     public Team() {}
 
@@ -76,6 +83,10 @@ public class Team {
     public Long getId() { return id; }
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
+    public String getConference() { return conference; }
+    public void setConference(String conference) { this.conference = conference; }
+    public String getDivision() { return division; }
+    public void setDivision(String division) { this.division = division; }
     public int getWins() { return wins; }
     public void setWins(int wins) { this.wins = wins; }
     public int getLosses() { return losses; }
@@ -122,4 +133,6 @@ public class Team {
     public void setGiveaways(int giveaways) { this.giveaways = giveaways; }
     public int getTakeaways() { return takeaways; }
     public void setTakeaways(int takeaways) { this.takeaways = takeaways; }
+    public Long getStatsFingerprint() { return statsFingerprint; }
+    public void setStatsFingerprint(Long statsFingerprint) { this.statsFingerprint = statsFingerprint; }
 }
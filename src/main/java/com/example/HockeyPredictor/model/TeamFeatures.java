@@ -0,0 +1,89 @@
+package com.example.HockeyPredictor.model;
+
+import java.util.List;
+
+/**
+ * Fixed layout of a team's rating inputs as a primitive feature vector.
+ *
+ * Everything the prediction model reads from a Team is copied into a double[]
+ * indexed by the constants below, so ratings can be computed from snapshots,
+ * indexes and overlays without touching the JPA entity.
+ */
+public final class TeamFeatures {
+
+    public static final int WINS = 0;
+    public static final int LOSSES = 1;
+    public static final int OVERTIME_LOSSES = 2;
+    public static final int GOAL_DIFFERENTIAL = 3;
+    public static final int SHOTS_FOR = 4;
+    public static final int SHOTS_AGAINST = 5;
+    public static final int CORSI_FOR = 6;
+    public static final int CORSI_AGAINST = 7;
+    public static final int FENWICK_FOR = 8;
+    public static final int FENWICK_AGAINST = 9;
+    public static final int HITS = 10;
+    public static final int PENALTIES = 11;
+    public static final int TAKEAWAYS = 12;
+    public static final int GIVEAWAYS = 13;
+    public static final int SAVE_PERCENTAGE = 14;
+    public static final int POWERPLAY_PERCENTAGE = 15;
+    public static final int PENALTY_KILL_PERCENTAGE = 16;
+    // Strength-of-schedule correction to goal differential per game (goals/game, from StrengthSolverService)
+    public static final int SCHEDULE_ADJUSTMENT = 17;
+
+    /** Features before this index describe the team's season; the rest the game being predicted. */
+    public static final int SEASON_COUNT = 18;
+
+    // Schedule context of the game being predicted (from ScheduleContextIndex); all 0 when unknown
+    public static final int DAYS_SINCE_LAST_GAME = 18; // 1 = second night of a back-to-back
+    public static final int GAMES_LAST_7_DAYS = 19;
+    public static final int BACK_TO_BACK = 20;         // 1 or 0
+    public static final int TRAVELLED = 21;            // 1 if the previous game was in another arena
+
+    public static final int COUNT = 22;
+
+    // Names match the Team property names (for the season features), so they can be used in request bodies
+    private static final List<String> NAMES = List.of(
+            "wins", "losses", "overtimeLosses", "goalDifferential", "shotsFor", "shotsAgainst",
+            "corsiFor", "corsiAgainst", "fenwickFor", "fenwickAgainst", "hits", "penalties",
+            "takeaways", "giveaways", "savePercentage", "powerplayPercentage", "penaltyKillPercentage",
+            "scheduleAdjustment", "daysSinceLastGame", "gamesLast7Days", "backToBack", "travelled");
+
+    private TeamFeatures() {}
+
+    public static double[] fromTeam(Team t) {
+        return fromTeam(t, 0.0);
+    }
+
+    public static double[] fromTeam(Team t, double scheduleAdjustment) {
+        double[] f = new double[COUNT];
+        f[WINS] = t.getWins();
+        f[LOSSES] = t.getLosses();
+        f[OVERTIME_LOSSES] = t.getOvertimeLosses();
+        f[GOAL_DIFFERENTIAL] = t.getGoalDifferential();
+        f[SHOTS_FOR] = t.getShotsFor();
+        f[SHOTS_AGAINST] = t.getShotsAgainst();
+        f[CORSI_FOR] = t.getCorsiFor();
+        f[CORSI_AGAINST] = t.getCorsiAgainst();
+        f[FENWICK_FOR] = t.getFenwickFor();
+        f[FENWICK_AGAINST] = t.getFenwickAgainst();
+        f[HITS] = t.getHits();
+        f[PENALTIES] = t.getPenalties();
+        f[TAKEAWAYS] = t.getTakeaways();
+        f[GIVEAWAYS] = t.getGiveaways();
+        f[SAVE_PERCENTAGE] = t.getSavePercentage();
+        f[POWERPLAY_PERCENTAGE] = t.getPowerplayPercentage();
+        f[PENALTY_KILL_PERCENTAGE] = t.getPenaltyKillPercentage();
+        f[SCHEDULE_ADJUSTMENT] = scheduleAdjustment;
+        return f;
+    }
+
+    public static String nameOf(int index) {
+        return NAMES.get(index);
+    }
+
+    /** Index of the named feature, or -1 if there is no such feature. */
+    public static int indexOf(String name) {
+        return NAMES.indexOf(name);
+    }
+}
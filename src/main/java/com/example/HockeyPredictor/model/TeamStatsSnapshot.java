@@ -0,0 +1,49 @@
+package com.example.HockeyPredictor.model;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable, in-memory copy of every team's feature vector (see TeamFeatures)
+ * plus the matchups scheduled for one date. Written by ingest, read back at
+ * startup so /api/predict can be served without the database.
+ */
+public class TeamStatsSnapshot {
+
+    private final long createdAtMillis;
+    private final LocalDate scheduleDate;
+
+    private final long[] teamIds;
+    private final String[] teamNames;
+    private final double[][] features;
+
+    private final long[] gameIds;
+    private final int[] homeIndex;   // index into the team arrays
+    private final int[] awayIndex;
+
+    public TeamStatsSnapshot(long createdAtMillis, LocalDate scheduleDate,
+                             long[] teamIds, String[] teamNames, double[][] features,
+                             long[] gameIds, int[] homeIndex, int[] awayIndex) {
+        this.createdAtMillis = createdAtMillis;
+        this.scheduleDate = scheduleDate;
+        this.teamIds = teamIds;
+        this.teamNames = teamNames;
+        this.features = features;
+        this.gameIds = gameIds;
+        this.homeIndex = homeIndex;
+        this.awayIndex = awayIndex;
+    }
+
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public LocalDate getScheduleDate() { return scheduleDate; }
+
+    public int getTeamCount() { return teamIds.length; }
+    public long getTeamId(int i) { return teamIds[i]; }
+    public String getTeamName(int i) { return teamNames[i]; }
+    /** Returns a copy; callers may modify it freely. */
+    public double[] getFeatures(int i) { return features[i].clone(); }
+
+    public int getGameCount() { return gameIds.length; }
+    public long getGameId(int i) { return gameIds[i]; }
+    public int getHomeIndex(int i) { return homeIndex[i]; }
+    public int getAwayIndex(int i) { return awayIndex[i]; }
+}
@@ -0,0 +1,73 @@
+package com.example.HockeyPredictor.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * A unit of ingest work (one team's stats, one day's schedule) shared by all
+ * instances through the database. An instance claims an item by taking a lease
+ * (optimistic locking on version), keeps it alive with heartbeats, and marks it
+ * done; if it dies, the lease expires and another instance picks the item up.
+ */
+@Entity
+@Table(name = "work_item", indexes = @Index(name = "idx_work_item_status", columnList = "status, leaseExpiresAt"))
+public class WorkItem {
+
+    public enum Type { TEAM_STATS, SCHEDULE }
+
+    public enum Status { PENDING, CLAIMED, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String taskKey;          // e.g. "team:<sportradar id>", "schedule:2025-10-22"
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    @Column(length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private String owner;            // instance id holding the lease
+    private Instant leaseExpiresAt;
+    private int attempts;
+    private Instant updatedAt;
+
+    @Version
+    private long version;
+
+    public WorkItem() {}
+
+    public WorkItem(Type type, String taskKey, String payload) {
+        this.type = type;
+        this.taskKey = taskKey;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.updatedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public String getTaskKey() { return taskKey; }
+    public Type getType() { return type; }
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+    public Instant getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+    public long getVersion() { return version; }
+}
@@ -1,13 +1,48 @@
 package com.example.HockeyPredictor.repository;
 
 import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
-    List<Game> findByDate(LocalDate date);
+    List<Game> findBySeasonAndDate(Integer season, LocalDate date);
+
+    // Goes through the (season, date) index
+    default List<Game> findByDate(LocalDate date) {
+        return findBySeasonAndDate(Game.seasonOf(date), date);
+    }
+
+    Optional<Game> findFirstByDateAndHomeTeamAndAwayTeam(LocalDate date, Team homeTeam, Team awayTeam);
+
+    // A hockey game can't end 0-0, so a score means the result is in
+    @Query("select g from Game g where g.date >= :from and (g.homeTeamGoals > 0 or g.awayTeamGoals > 0)")
+    List<Game> findCompletedSince(@Param("from") LocalDate from);
+
+    List<Game> findBySeasonOrderByDateAscIdAsc(Integer season);
+
+    @Query("select distinct g.season from Game g where g.season < :season")
+    List<Integer> findSeasonsBefore(@Param("season") Integer season);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Game g where g.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rows written before the season column existed
+    @Modifying
+    @Transactional
+    @Query("update Game g set g.season = case when month(g.date) >= 7 then year(g.date) else year(g.date) - 1 end " +
+            "where g.season is null and g.date is not null")
+    int backfillSeasons();
 }
@@ -0,0 +1,19 @@
+package com.example.HockeyPredictor.repository;
+
+import com.example.HockeyPredictor.model.ShadowPrediction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface ShadowPredictionRepository extends JpaRepository<ShadowPrediction, Long> {
+    List<ShadowPrediction> findByModelKeyOrderByCreatedAtAsc(String modelKey);
+
+    @Query("select p.gameId from ShadowPrediction p where p.modelKey = :modelKey and p.gameId in :gameIds")
+    Set<Long> findRecordedGameIds(@Param("modelKey") String modelKey, @Param("gameIds") Collection<Long> gameIds);
+}
@@ -0,0 +1,41 @@
+package com.example.HockeyPredictor.repository;
+
+import com.example.HockeyPredictor.model.WorkItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkItemRepository extends JpaRepository<WorkItem, Long> {
+    Optional<WorkItem> findByTaskKey(String taskKey);
+
+    // Pending items, plus claimed items whose owner stopped renewing the lease
+    @Query("select w from WorkItem w where w.status = :pending or (w.status = :claimed and w.leaseExpiresAt < :now) order by w.id")
+    List<WorkItem> findClaimable(@Param("pending") WorkItem.Status pending, @Param("claimed") WorkItem.Status claimed,
+                                 @Param("now") Instant now, Pageable page);
+
+    // Heartbeat; bumps the version so nobody can claim an item from a stale read of the old lease
+    @Modifying
+    @Transactional
+    @Query("update WorkItem w set w.leaseExpiresAt = :until, w.version = w.version + 1 where w.owner = :owner and w.status = :claimed")
+    int extendLeases(@Param("owner") String owner, @Param("claimed") WorkItem.Status claimed, @Param("until") Instant until);
+
+    // Only succeeds while we still hold the lease
+    @Modifying
+    @Transactional
+    @Query("update WorkItem w set w.status = :status, w.leaseExpiresAt = null, w.updatedAt = :now, w.version = w.version + 1 " +
+            "where w.id = :id and w.owner = :owner and w.status = :claimed")
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("claimed") WorkItem.Status claimed,
+               @Param("status") WorkItem.Status status, @Param("now") Instant now);
+
+    @Query("select max(w.updatedAt) from WorkItem w where w.status = :done and w.owner <> :owner")
+    Instant findLatestCompletionByOthers(@Param("done") WorkItem.Status done, @Param("owner") String owner);
+}
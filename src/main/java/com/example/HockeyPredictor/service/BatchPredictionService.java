@@ -0,0 +1,212 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.MatchupPrediction;
+import com.example.HockeyPredictor.dto.MatchupRequest;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * BatchPredictionService - scores arbitrary (home, away, overrides) matchups
+ * streamed in as NDJSON, without touching the database or writing prediction files.
+ *
+ * Requests are read in chunks; each chunk is evaluated in parallel while the next
+ * one is being parsed, and results are written back (in request order) as soon as
+ * their chunk completes. Evaluation runs on its own bounded pool, not the common pool,
+ * so a large batch can't starve the bootstrap intervals of /api/predict.
+ *
+ * A line that isn't a matchup becomes an error line and the batch goes on; malformed
+ * JSON ends the batch with an error line, since the next request can't be found.
+ */
+@Service
+public class BatchPredictionService {
+
+    static final int CHUNK_SIZE = 4096;
+
+    /** One request line: the matchup, or why it couldn't be read. */
+    private record Item(MatchupRequest request, String error) {}
+
+    /**
+     * Reads request lines one at a time, turning read errors into error items. Opened on
+     * the first read, since opening already parses the first token.
+     */
+    private static final class RequestReader implements Closeable {
+        private final ObjectReader objectReader;
+        private final InputStream in;
+        private MappingIterator<MatchupRequest> requests;
+        private boolean done;
+
+        RequestReader(ObjectReader objectReader, InputStream in) {
+            this.objectReader = objectReader;
+            this.in = in;
+        }
+
+        /** The next item, or null at the end of the batch. */
+        Item next() throws IOException {
+            if (done) return null;
+            try {
+                if (requests == null) requests = objectReader.readValues(in);
+                if (!requests.hasNextValue()) {
+                    done = true;
+                    return null;
+                }
+                return new Item(requests.nextValue(), null);
+            } catch (JsonProcessingException e) {
+                // Databind may wrap the parser's error; either way there's no next request to find
+                if (e instanceof JsonParseException || e.getCause() instanceof JsonParseException || requests == null) {
+                    done = true;
+                    return new Item(null, describe("Malformed JSON", e));
+                }
+                // Well-formed but not a matchup: the iterator skips past it on the next read
+                return new Item(null, describe("Invalid request", e));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (requests != null) requests.close();
+        }
+
+        private static String describe(String what, JsonProcessingException e) {
+            JsonLocation at = e.getLocation();
+            return at == null ? what + ": " + e.getOriginalMessage()
+                    : what + " at line " + at.getLineNr() + ": " + e.getOriginalMessage();
+        }
+    }
+
+    private final PredictionService predictionService;
+    private final TeamFeatureIndex teamFeatureIndex;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+
+    public BatchPredictionService(PredictionService predictionService, TeamFeatureIndex teamFeatureIndex,
+                                  ObjectMapper objectMapper,
+                                  @Value("${hockeypredictor.batch.parallelism:0}") int parallelism) {
+        this.predictionService = predictionService;
+        this.teamFeatureIndex = teamFeatureIndex;
+        this.objectMapper = objectMapper;
+        // Default: half the cores, leaving the rest to request threads and the common pool
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public void predict(InputStream in, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(MatchupPrediction.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (RequestReader reader = new RequestReader(objectMapper.readerFor(MatchupRequest.class), in);
+             JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null); // lines are separated explicitly below
+
+            CompletableFuture<MatchupPrediction[]> pending = null;
+            Item[] chunk;
+            while ((chunk = readChunk(reader)).length > 0) {
+                Item[] items = chunk;
+                // The parallel stream inside runs in the pool the task runs in
+                CompletableFuture<MatchupPrediction[]> next = CompletableFuture.supplyAsync(() -> evaluate(items), pool);
+                if (pending != null) {
+                    writeChunk(writer, gen, pending.join());
+                }
+                pending = next;
+            }
+            if (pending != null) {
+                writeChunk(writer, gen, pending.join());
+            }
+        }
+    }
+
+    private Item[] readChunk(RequestReader reader) throws IOException {
+        Item[] buf = new Item[CHUNK_SIZE];
+        int n = 0;
+        Item item;
+        while (n < CHUNK_SIZE && (item = reader.next()) != null) {
+            buf[n++] = item;
+        }
+        return n == CHUNK_SIZE ? buf : Arrays.copyOf(buf, n);
+    }
+
+    private MatchupPrediction[] evaluate(Item[] chunk) {
+        MatchupPrediction[] results = new MatchupPrediction[chunk.length];
+        IntStream.range(0, chunk.length).parallel().forEach(i -> results[i] = evaluate(chunk[i]));
+        return results;
+    }
+
+    /** Write one NDJSON line per result, then push the chunk to the client. */
+    private void writeChunk(ObjectWriter writer, JsonGenerator gen, MatchupPrediction[] results) throws IOException {
+        for (MatchupPrediction r : results) {
+            writer.writeValue(gen, r);
+            gen.writeRaw('\n');
+        }
+        gen.flush();
+    }
+
+    private MatchupPrediction evaluate(Item item) {
+        if (item.error() != null) return MatchupPrediction.failed(null, item.error());
+        MatchupRequest req = item.request();
+        String id = req.getId();
+        TeamFeatureIndex.Entry home = teamFeatureIndex.resolve(req.getHome());
+        TeamFeatureIndex.Entry away = teamFeatureIndex.resolve(req.getAway());
+        if (home == null) return MatchupPrediction.failed(id, "Unknown home team: " + req.getHome());
+        if (away == null) return MatchupPrediction.failed(id, "Unknown away team: " + req.getAway());
+
+        double[] homeFeatures;
+        double[] awayFeatures;
+        try {
+            homeFeatures = applyOverrides(home.getFeatures(), req.getHomeOverrides());
+            awayFeatures = applyOverrides(away.getFeatures(), req.getAwayOverrides());
+        } catch (IllegalArgumentException e) {
+            return MatchupPrediction.failed(id, e.getMessage());
+        }
+
+        double probabilityHome = predictionService.homeWinProbability(homeFeatures, awayFeatures, req.isNeutralSite());
+        boolean homeWins = probabilityHome > 0.5;
+        double winnerProb = homeWins ? probabilityHome : 1.0 - probabilityHome;
+
+        return new MatchupPrediction(id,
+                home.getName(),
+                away.getName(),
+                homeWins ? home.getName() : away.getName(),
+                probabilityHome,
+                Math.round(winnerProb * 1000.0) / 1000.0,
+                predictionService.convertProbabilityToAmericanOdds(winnerProb));
+    }
+
+    /** Copy-on-write: the indexed vector is shared, so only clone it when something changes. */
+    private double[] applyOverrides(double[] base, Map<String, Double> overrides) {
+        if (overrides == null || overrides.isEmpty()) return base;
+        double[] f = base.clone();
+        for (Map.Entry<String, Double> o : overrides.entrySet()) {
+            int idx = TeamFeatures.indexOf(o.getKey());
+            if (idx < 0) throw new IllegalArgumentException("Unknown feature: " + o.getKey());
+            if (o.getValue() == null) continue;
+            f[idx] = o.getValue();
+        }
+        return f;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.GameSegment;
+import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.util.GameSegmentFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * GameArchiveService - keeps the live Game table to the current season.
+ *
+ * Closed seasons are moved into immutable columnar segment files (see GameSegmentFile),
+ * one per season, which are memory-mapped at startup. Readers of past results (scoring
+ * shadow models) look archived games up here instead of in the database; the strength
+ * solve, standings and schedule context only use the current season.
+ */
+@Service
+public class GameArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameArchiveService.class);
+
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path archiveDirectory;
+
+    private volatile NavigableMap<Integer, GameSegment> segments = new TreeMap<>();
+
+    public GameArchiveService(GameRepository gameRepository, ApplicationEventPublisher eventPublisher,
+                              @Value("${hockeypredictor.archive.path:data/archive}") String archiveDirectory) {
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    /** Runs before anything reads games by season (the strength solver is @Order 0). */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(-1)
+    public void onApplicationReady() {
+        int backfilled = gameRepository.backfillSeasons();
+        if (backfilled > 0) log.info("Assigned a season to {} existing games.", backfilled);
+        loadSegments();
+        archiveClosedSeasons();
+    }
+
+    /** Archived seasons, oldest first. */
+    public NavigableMap<Integer, GameSegment> getSegments() {
+        return segments;
+    }
+
+    public Optional<GameSegment> getSegment(int season) {
+        return Optional.ofNullable(segments.get(season));
+    }
+
+    /**
+     * Final scores ({home, away}) of the archived games among the ids. Only the game-id
+     * column of each segment is scanned, plus the score columns of the matching rows.
+     */
+    public Map<Long, int[]> findArchivedScores(Collection<Long> gameIds) {
+        Map<Long, int[]> scores = new HashMap<>();
+        if (gameIds.isEmpty()) return scores;
+
+        Set<Long> wanted = new HashSet<>(gameIds);
+        for (GameSegment segment : segments.values()) {
+            for (int row = 0; row < segment.getRowCount() && scores.size() < wanted.size(); row++) {
+                long id = segment.getGameId(row);
+                if (wanted.contains(id)) {
+                    scores.put(id, new int[] {segment.getHomeGoals(row), segment.getAwayGoals(row)});
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Move every season before the current one out of the live table. A season's rows are
+     * only deleted after its segment has been written and read back with the same row count,
+     * and only the rows that went into it: games without a resolved home or away team can't
+     * be encoded, so they stay in the table (with a warning) until they're fixed.
+     */
+    @Scheduled(cron = "${hockeypredictor.archive.cron:0 30 4 * * *}")
+    public synchronized void archiveClosedSeasons() {
+        int currentSeason = Game.seasonOf(LocalDate.now());
+        for (Integer season : gameRepository.findSeasonsBefore(currentSeason)) {
+            try {
+                archiveSeason(season);
+            } catch (IOException e) {
+                log.error("Failed to archive season {}; its games stay in the database: {}", season, e.getMessage());
+            }
+        }
+    }
+
+    private void archiveSeason(int season) throws IOException {
+        List<Game> rows = gameRepository.findBySeasonOrderByDateAscIdAsc(season);
+        List<Game> games = rows.stream()
+                .filter(g -> g.getHomeTeam() != null && g.getAwayTeam() != null)
+                .collect(Collectors.toList());
+        if (games.size() < rows.size()) {
+            log.warn("Season {}: {} games have no home or away team; they stay in the live table until fixed.",
+                    season, rows.size() - games.size());
+        }
+        if (games.isEmpty()) return;
+
+        GameSegment existing = segments.get(season);
+        Path path = GameSegmentFile.pathFor(archiveDirectory, season);
+
+        long start = System.nanoTime();
+        GameSegmentFile.write(path, season, games, existing);
+        GameSegment written = GameSegmentFile.read(path);
+
+        int expected = (existing == null ? 0 : existing.getRowCount()) + games.size();
+        if (written.getRowCount() < games.size() || written.getRowCount() > expected) {
+            throw new IOException("Segment " + path + " holds " + written.getRowCount() + " rows, expected "
+                    + games.size() + ".." + expected);
+        }
+
+        NavigableMap<Integer, GameSegment> updated = new TreeMap<>(segments);
+        updated.put(season, written);
+        segments = updated;
+
+        Set<Long> archivedIds = games.stream().map(Game::getId).collect(Collectors.toSet());
+        int deleted = gameRepository.deleteByIdIn(archivedIds);
+        eventPublisher.publishEvent(new GamesChangedEvent(archivedIds));
+        log.info("Archived season {}: {} games to {} ({} bytes) in {} ms; {} rows removed from the live table.",
+                season, written.getRowCount(), path, Files.size(path), (System.nanoTime() - start) / 1_000_000, deleted);
+    }
+
+    private void loadSegments() {
+        if (!Files.isDirectory(archiveDirectory)) return;
+
+        NavigableMap<Integer, GameSegment> loaded = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(archiveDirectory, "season-*.seg")) {
+            for (Path file : files) {
+                try {
+                    GameSegment segment = GameSegmentFile.read(file);
+                    loaded.put(segment.getSeason(), segment);
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable game segment {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list game archive {}: {}", archiveDirectory, e.getMessage());
+        }
+        segments = loaded;
+        log.info("Mapped {} archived seasons from {}.", loaded.size(), archiveDirectory);
+    }
+}
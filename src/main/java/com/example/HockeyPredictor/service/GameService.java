@@ -1,12 +1,15 @@
 package com.example.HockeyPredictor.service;
 
+import com.example.HockeyPredictor.event.GamesChangedEvent;
 import com.example.HockeyPredictor.model.Game;
 import com.example.HockeyPredictor.repository.GameRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class GameService {
@@ -14,6 +17,9 @@ public class GameService {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<Game> getAllGames() {
         return gameRepository.findAll();
     }
@@ -23,11 +29,13 @@ public class GameService {
     }
 
     public Game createGame(Game game) {
-        return gameRepository.save(game);
+        Game saved = gameRepository.save(game);
+        eventPublisher.publishEvent(new GamesChangedEvent(Set.of(saved.getId())));
+        return saved;
     }
 
     public Game updateGame(Long id, Game updatedGame) {
-        return gameRepository.findById(id)
+        Game saved = gameRepository.findById(id)
                 .map(game -> {
                     game.setHomeTeam(updatedGame.getHomeTeam());
                     game.setAwayTeam(updatedGame.getAwayTeam());
@@ -36,9 +44,12 @@ public class GameService {
                     game.setDate(updatedGame.getDate());
                     return gameRepository.save(game);
                 }).orElseThrow(() -> new RuntimeException("Game not found with id " + id));
+        eventPublisher.publishEvent(new GamesChangedEvent(Set.of(id)));
+        return saved;
     }
 
     public void deleteGame(Long id) {
         gameRepository.deleteById(id);
+        eventPublisher.publishEvent(new GamesChangedEvent(Set.of(id)));
     }
 }
@@ -1,139 +1,214 @@
 package com.example.HockeyPredictor.service;
 
 import com.example.HockeyPredictor.dto.GamePredictionResult;
+import com.example.HockeyPredictor.dto.ProbabilityInterval;
 import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.ShadowPrediction;
 import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
 import com.example.HockeyPredictor.util.PredictionFileWriter;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class PredictionService {
 
-    // Tunable category weights (derived from analytics and hockey metrics studies)
-    private static final double WIN_PCT_WEIGHT = 0.30;       // Overall success rate
-    private static final double GOAL_DIFF_WEIGHT = 0.12;     // Strong predictor of true talent
-    private static final double SAVE_PCT_WEIGHT = 0.08;      // Goaltending stability
-    private static final double SPECIAL_TEAMS_WEIGHT = 0.12; // Power play & PK effect
-    private static final double SHOTS_FOR_WEIGHT = 0.03;     // Offensive pressure
-    private static final double SHOTS_AGAINST_WEIGHT = 0.03; // Defensive consistency
-    private static final double CORSI_DIFF_WEIGHT = 0.06;    // Possession control
-    private static final double FENWICK_DIFF_WEIGHT = 0.06;  // Shot quality proxy
-    private static final double HITS_PEN_WEIGHT = 0.06;      // Physicality vs. discipline
-    private static final double TURNOVERS_WEIGHT = 0.08;     // Puck management
-
-    private static final double HOME_ADVANTAGE = 0.06;       // ~5% home edge
-    private static final double LOGISTIC_K = 1.25;           // Reasonable steepness for diff→prob
+    private final StrengthSolverService strengthSolverService;
+    private final RatingModelRegistry ratingModelRegistry;
+    private final ShadowPredictionStore shadowPredictionStore;
+    private final UncertaintyService uncertaintyService;
+    private final ScheduleContextIndex scheduleContextIndex;
+
+    public PredictionService(StrengthSolverService strengthSolverService, RatingModelRegistry ratingModelRegistry,
+                             ShadowPredictionStore shadowPredictionStore, UncertaintyService uncertaintyService,
+                             ScheduleContextIndex scheduleContextIndex) {
+        this.strengthSolverService = strengthSolverService;
+        this.ratingModelRegistry = ratingModelRegistry;
+        this.shadowPredictionStore = shadowPredictionStore;
+        this.uncertaintyService = uncertaintyService;
+        this.scheduleContextIndex = scheduleContextIndex;
+    }
 
+    /**
+     * Predict a day's games with the production model. Shadow models are evaluated in the
+     * same pass on the same feature vectors (built once per team) and stored for scoring,
+     * and the slate is bootstrapped once for the confidence intervals.
+     */
     public List<GamePredictionResult> predictGamesForDate(List<Game> gamesForDate) {
         List<GamePredictionResult> results = new ArrayList<>();
+        RatingModel production = ratingModelRegistry.getProduction();
+        RatingModel[] shadows = ratingModelRegistry.getShadows();
+        List<ShadowPrediction> shadowRows = new ArrayList<>(shadows.length * gamesForDate.size());
+        Map<Long, Integer> slotByTeam = new HashMap<>();
+        List<double[]> teamFeatures = new ArrayList<>();
+        int[] homeSlots = new int[gamesForDate.size()];
+        int[] awaySlots = new int[gamesForDate.size()];
+        Instant now = Instant.now();
 
         for (Game g : gamesForDate) {
             Team home = g.getHomeTeam();
             Team away = g.getAwayTeam();
             if (home == null || away == null) continue;
 
-            double ratingHome = computeTeamRating(home, true);
-            double ratingAway = computeTeamRating(away, false);
+            int homeSlot = slotByTeam.computeIfAbsent(home.getId(), id -> addSlot(teamFeatures, featuresFor(home, g)));
+            int awaySlot = slotByTeam.computeIfAbsent(away.getId(), id -> addSlot(teamFeatures, featuresFor(away, g)));
+            homeSlots[results.size()] = homeSlot;
+            awaySlots[results.size()] = awaySlot;
+            double[] homeFeatures = teamFeatures.get(homeSlot);
+            double[] awayFeatures = teamFeatures.get(awaySlot);
+            results.add(predictMatchup(g.getId(), home.getName(), homeFeatures, away.getName(), awayFeatures));
+
+            if (shadows.length > 0) {
+                double productionProbability = production.homeWinProbability(homeFeatures, awayFeatures, false);
+                for (RatingModel shadow : shadows) {
+                    shadowRows.add(new ShadowPrediction(g.getId(), g.getDate(), shadow.getKey(),
+                            shadow.homeWinProbability(homeFeatures, awayFeatures, false),
+                            production.getKey(), productionProbability, now));
+                }
+            }
+        }
 
-            double diff = ratingHome - ratingAway;
-            double probabilityHome = logisticProbability(diff);
-            double probabilityAway = 1.0 - probabilityHome;
+        shadowPredictionStore.record(shadowRows);
+        attachIntervals(results, teamFeatures.toArray(new double[0][]),
+                Arrays.copyOf(homeSlots, results.size()), Arrays.copyOf(awaySlots, results.size()));
+        writePredictionFile(results);
+        return results;
+    }
 
-            String predictedWinner = (probabilityHome > probabilityAway)
-                    ? home.getName()
-                    : away.getName();
+    /**
+     * Predict the scheduled games stored in a team-stats snapshot, for when the
+     * database isn't available (still starting up, locked, ...).
+     */
+    public List<GamePredictionResult> predictSnapshotGames(TeamStatsSnapshot snapshot) {
+        List<GamePredictionResult> results = new ArrayList<>();
+        double[][] teamFeatures = new double[snapshot.getTeamCount()][];
+        for (int t = 0; t < teamFeatures.length; t++) teamFeatures[t] = snapshot.getFeatures(t);
+        int[] homeSlots = new int[snapshot.getGameCount()];
+        int[] awaySlots = new int[snapshot.getGameCount()];
+
+        for (int i = 0; i < snapshot.getGameCount(); i++) {
+            int home = homeSlots[i] = snapshot.getHomeIndex(i);
+            int away = awaySlots[i] = snapshot.getAwayIndex(i);
+            results.add(predictMatchup(snapshot.getGameId(i),
+                    snapshot.getTeamName(home), teamFeatures[home],
+                    snapshot.getTeamName(away), teamFeatures[away]));
+        }
 
-            double winnerProb = Math.max(probabilityHome, probabilityAway);
-            String americanOdds = convertProbabilityToAmericanOdds(winnerProb);
+        attachIntervals(results, teamFeatures, homeSlots, awaySlots);
+        writePredictionFile(results);
+        return results;
+    }
 
-            String notes = generateNotes(home, away, ratingHome, ratingAway, probabilityHome, probabilityAway);
+    /** Predict a single matchup from the two teams' feature vectors (see TeamFeatures). */
+    public GamePredictionResult predictMatchup(Long gameId, String homeName, double[] homeFeatures,
+                                               String awayName, double[] awayFeatures) {
+        RatingModel model = ratingModelRegistry.getProduction();
+        double ratingHome = model.rating(homeFeatures, true);
+        double ratingAway = model.rating(awayFeatures, false);
+
+        double diff = ratingHome - ratingAway;
+        double probabilityHome = model.probability(diff);
+        double probabilityAway = 1.0 - probabilityHome;
+
+        String predictedWinner = (probabilityHome > probabilityAway)
+                ? homeName
+                : awayName;
+
+        double winnerProb = Math.max(probabilityHome, probabilityAway);
+        String americanOdds = convertProbabilityToAmericanOdds(winnerProb);
+
+        String notes = generateNotes(ratingHome, ratingAway, probabilityHome, probabilityAway);
+
+        return new GamePredictionResult(
+                gameId,
+                homeName,
+                awayName,
+                predictedWinner,
+                Math.round(winnerProb * 1000.0) / 1000.0,
+                americanOdds,
+                notes
+        );
+    }
 
-            GamePredictionResult res = new GamePredictionResult(
-                    g.getId(),
-                    home.getName(),
-                    away.getName(),
-                    predictedWinner,
-                    Math.round(winnerProb * 1000.0) / 1000.0,
-                    americanOdds,
-                    notes
-            );
-            results.add(res);
-        }
+    /** Feature vector for a team, including its current strength-of-schedule adjustment. */
+    public double[] featuresOf(Team team) {
+        return TeamFeatures.fromTeam(team, strengthSolverService.getScheduleAdjustment(team.getId()));
+    }
 
-        try {
-            PredictionFileWriter.writeDailyPredictions(results, LocalDate.now());
-        } catch (IOException e) {
-            System.err.println("Failed to write prediction file: " + e.getMessage());
+    /** A team's features for one game: its season features plus the game's schedule context. */
+    public double[] featuresFor(Team team, Game game) {
+        double[] f = featuresOf(team);
+        if (game.getDate() != null) {
+            scheduleContextIndex.fill(f, team.getId(), game.getDate(), game.getHomeTeam().getId());
         }
+        return f;
+    }
 
-        return results;
+    /** Home win probability for a hypothetical matchup; neutral site drops the home-ice edge. */
+    public double homeWinProbability(double[] homeFeatures, double[] awayFeatures, boolean neutralSite) {
+        return ratingModelRegistry.getProduction().homeWinProbability(homeFeatures, awayFeatures, neutralSite);
+    }
+
+    /** A team's neutral-site rating (what the probabilities are built from). */
+    public double teamRating(double[] features) {
+        return ratingModelRegistry.getProduction().rating(features, false);
+    }
+
+    /**
+     * Bootstrap intervals for the predicted winner's probability, plus the fair odds at both
+     * ends of the 80% interval. Left unset if the bootstrap didn't finish within its budget.
+     */
+    private void attachIntervals(List<GamePredictionResult> results, double[][] teamFeatures,
+                                 int[] homeSlots, int[] awaySlots) {
+        double[][] quantiles = uncertaintyService.homeWinQuantiles(teamFeatures, homeSlots, awaySlots);
+        if (quantiles == null) return;
+
+        for (int i = 0; i < results.size(); i++) {
+            GamePredictionResult r = results.get(i);
+            double[] q = quantiles[i];
+            boolean homeWinner = r.getPredictedWinner().equals(r.getHomeTeam());
+
+            ProbabilityInterval interval80 = homeWinner
+                    ? interval(q[UncertaintyService.Q_10], q[UncertaintyService.Q_90])
+                    : interval(1 - q[UncertaintyService.Q_90], 1 - q[UncertaintyService.Q_10]);
+            ProbabilityInterval interval95 = homeWinner
+                    ? interval(q[UncertaintyService.Q_025], q[UncertaintyService.Q_975])
+                    : interval(1 - q[UncertaintyService.Q_975], 1 - q[UncertaintyService.Q_025]);
+
+            r.setInterval80(interval80);
+            r.setInterval95(interval95);
+            r.setFairOddsRange(convertProbabilityToAmericanOdds(interval80.getLow())
+                    + " to " + convertProbabilityToAmericanOdds(interval80.getHigh()));
+        }
     }
 
-    private double computeTeamRating(Team t, boolean isHome) {
-        int gamesPlayed = Math.max(1, t.getWins() + t.getLosses() + t.getOvertimeLosses());
-        double averageGoalDiff = 0.6;
-        double averageSavePct = 0.900;
-        double averageShots = 35.0;
-        double magnitudeScaler = 10.0;
-        double halfMagnitudeScaler = 5.0;
-
-        // Per-game metrics to stabilize early in season
-        double goalsPerGameDiff = (double) t.getGoalDifferential() / gamesPlayed;
-        double shotsForPerGame = (double) t.getShotsFor() / gamesPlayed;
-        double shotsAgainstPerGame = (double) t.getShotsAgainst() / gamesPlayed;
-        double corsiDiffPerGame = (double) (t.getCorsiFor() - t.getCorsiAgainst()) / gamesPlayed;
-        double fenwickDiffPerGame = (double) (t.getFenwickFor() - t.getFenwickAgainst()) / gamesPlayed;
-        double hitsPerGame = (double) t.getHits() / gamesPlayed;
-        double penaltiesPerGame = (double) t.getPenalties() / gamesPlayed;
-        double turnoversPerGame = (double) (t.getTakeaways() - t.getGiveaways()) / gamesPlayed;
-
-        // Normalize to approximate real hockey scale
-        double winPct = safeRatio(t.getWins(), t.getWins() + t.getLosses() + t.getOvertimeLosses());
-        double goalDiff = goalsPerGameDiff / averageGoalDiff;
-        double savePct = (t.getSavePercentage() - averageSavePct) / 0.04;
-        double specialTeams = ((t.getPowerplayPercentage() + t.getPenaltyKillPercentage()) / 2.0) / 100.0;
-        double shotsFor = shotsForPerGame / averageShots;
-        double shotsAgainst = ((1.5 * averageShots) - shotsAgainstPerGame) / averageShots; // Get 'half-points' at average
-        double corsiDiff = corsiDiffPerGame / magnitudeScaler;
-        double fenwickDiff = fenwickDiffPerGame / magnitudeScaler;
-        double hitsPen = (hitsPerGame / (penaltiesPerGame + 1.0)) / halfMagnitudeScaler;
-        double turnovers = turnoversPerGame / magnitudeScaler;
-
-        double rating =
-                WIN_PCT_WEIGHT * winPct +
-                GOAL_DIFF_WEIGHT * goalDiff +
-                SAVE_PCT_WEIGHT * savePct +
-                SPECIAL_TEAMS_WEIGHT * specialTeams +
-                SHOTS_FOR_WEIGHT * shotsFor +
-                SHOTS_AGAINST_WEIGHT * shotsAgainst +
-                CORSI_DIFF_WEIGHT * corsiDiff +
-                FENWICK_DIFF_WEIGHT * fenwickDiff +
-                HITS_PEN_WEIGHT * hitsPen +
-                TURNOVERS_WEIGHT * turnovers;
-
-        if (isHome) rating += HOME_ADVANTAGE;
-
-        double progressionFactor = Math.min(1.0, (1 + (gamesPlayed / 10)) / 3.0); // full weight after 30 games, avoid early overreactions
-        rating *= progressionFactor;
-
-        // Keep rating in sensible range
-        return Math.max(-2, Math.min(2, rating));
+    private static ProbabilityInterval interval(double low, double high) {
+        return new ProbabilityInterval(Math.round(low * 1000.0) / 1000.0, Math.round(high * 1000.0) / 1000.0);
     }
 
-    private double safeRatio(int num, int denom) {
-        return denom == 0 ? 0.5 : (double) num / denom;
+    private static int addSlot(List<double[]> teamFeatures, double[] features) {
+        teamFeatures.add(features);
+        return teamFeatures.size() - 1;
     }
 
-    private double logisticProbability(double diff) {
-        return 1.0 / (1.0 + Math.exp(-LOGISTIC_K * diff));
+    private void writePredictionFile(List<GamePredictionResult> results) {
+        try {
+            PredictionFileWriter.writeDailyPredictions(results, LocalDate.now());
+        } catch (IOException e) {
+            System.err.println("Failed to write prediction file: " + e.getMessage());
+        }
     }
 
-    private String convertProbabilityToAmericanOdds(double p) {
+    public String convertProbabilityToAmericanOdds(double p) {
         p = Math.max(0.001, Math.min(0.999, p));
         double odds = (p > 0.5)
                 ? -100 * (p / (1 - p))
@@ -141,8 +216,7 @@ public class PredictionService {
         return String.format("%+d", Math.round(odds));
     }
 
-    private String generateNotes(Team home, Team away, double ratingHome, double ratingAway,
-                                 double probHome, double probAway) {
+    private String generateNotes(double ratingHome, double ratingAway, double probHome, double probAway) {
         return String.format(
                 "Home rating: %.3f, Away rating: %.3f. HomeProb: %.3f, AwayProb: %.3f.",
                 ratingHome, ratingAway, probHome, probAway
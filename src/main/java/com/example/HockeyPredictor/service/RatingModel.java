@@ -0,0 +1,31 @@
+package com.example.HockeyPredictor.service;
+
+/**
+ * A prediction model: a team's feature vector (see TeamFeatures) to a strength rating,
+ * and a home-minus-away rating difference to a home win probability.
+ *
+ * Every RatingModel bean is registered with RatingModelRegistry, which picks the
+ * production model and the shadow models run next to it. Models are evaluated on the
+ * same precomputed feature arrays, so implementations should be stateless and not
+ * allocate per call.
+ */
+public interface RatingModel {
+
+    String getName();
+
+    String getVersion();
+
+    /** Registry key, e.g. "baseline@1". */
+    default String getKey() {
+        return getName() + "@" + getVersion();
+    }
+
+    double rating(double[] features, boolean isHome);
+
+    double probability(double ratingDiff);
+
+    /** Home win probability; neutral site drops the home-ice edge. */
+    default double homeWinProbability(double[] homeFeatures, double[] awayFeatures, boolean neutralSite) {
+        return probability(rating(homeFeatures, !neutralSite) - rating(awayFeatures, false));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.ProductionModelChangedEvent;
+import com.example.HockeyPredictor.model.RatingWeights;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RatingModelRegistry - named, versioned rating models ("name@version").
+ *
+ * Models come from RatingModel beans at startup, or are registered at runtime as
+ * weighted-model configurations. A key is never reused, so a shadow model's stored
+ * outputs always refer to one exact configuration. One model serves predictions;
+ * any number of shadow models are evaluated next to it on the same features.
+ */
+@Service
+public class RatingModelRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingModelRegistry.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, RatingModel> models = new LinkedHashMap<>();
+
+    private volatile RatingModel production;
+    private volatile RatingModel[] shadows = new RatingModel[0];
+
+    public RatingModelRegistry(List<RatingModel> ratingModels, ApplicationEventPublisher eventPublisher,
+                               @Value("${hockeypredictor.models.production:baseline@2}") String productionKey,
+                               @Value("${hockeypredictor.models.shadow:}") List<String> shadowKeys) {
+        this.eventPublisher = eventPublisher;
+        for (RatingModel model : ratingModels) {
+            if (models.putIfAbsent(model.getKey(), model) != null) {
+                throw new IllegalStateException("Duplicate rating model " + model.getKey());
+            }
+        }
+        this.production = require(productionKey);
+        for (String key : shadowKeys) {
+            if (!key.isBlank()) setShadow(key.trim(), true);
+        }
+        log.info("Rating models: {} (production {}, {} shadow).", models.keySet(), production.getKey(), shadows.length);
+    }
+
+    public RatingModel getProduction() {
+        return production;
+    }
+
+    /** Shadow models in registration order; the array is never modified, only replaced. */
+    public RatingModel[] getShadows() {
+        return shadows;
+    }
+
+    public synchronized Collection<RatingModel> getAll() {
+        return List.copyOf(models.values());
+    }
+
+    public synchronized RatingModel register(String name, String version, RatingWeights weights) {
+        if (name == null || name.isBlank() || version == null || version.isBlank()) {
+            throw new IllegalArgumentException("Model name and version are required");
+        }
+        RatingModel model = new WeightedRatingModel(name, version, weights == null ? new RatingWeights() : weights);
+        if (models.containsKey(model.getKey())) {
+            throw new IllegalArgumentException("Model already exists: " + model.getKey() + " (use a new version)");
+        }
+        models.put(model.getKey(), model);
+        log.info("Registered rating model {}.", model.getKey());
+        return model;
+    }
+
+    public synchronized void setShadow(String key, boolean enabled) {
+        RatingModel model = require(key);
+        List<RatingModel> updated = new ArrayList<>();
+        for (RatingModel m : shadows) {
+            if (!m.getKey().equals(key)) updated.add(m);
+        }
+        if (enabled && model != production) updated.add(model);
+        shadows = updated.toArray(new RatingModel[0]);
+    }
+
+    public boolean isShadow(String key) {
+        for (RatingModel m : shadows) {
+            if (m.getKey().equals(key)) return true;
+        }
+        return false;
+    }
+
+    /** Make a model the production model; the old one keeps running as a shadow. */
+    public void promote(String key) {
+        RatingModel previous;
+        synchronized (this) {
+            RatingModel model = require(key);
+            previous = production;
+            if (model == previous) return;
+            production = model;
+            setShadow(key, false);
+            setShadow(previous.getKey(), true);
+        }
+        log.info("Promoted rating model {} to production (was {}).", key, previous.getKey());
+        eventPublisher.publishEvent(new ProductionModelChangedEvent(key));
+    }
+
+    private RatingModel require(String key) {
+        RatingModel model = models.get(key);
+        if (model == null) throw new IllegalArgumentException("Unknown rating model: " + key);
+        return model;
+    }
+}
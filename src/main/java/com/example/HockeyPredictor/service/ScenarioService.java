@@ -0,0 +1,144 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.ScenarioPrediction;
+import com.example.HockeyPredictor.dto.ScenarioRequest;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Scenario;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScenarioService - named what-if overlays evaluated over the in-memory team
+ * features at prediction time. Nothing is written to the Team table, so any
+ * number of scenarios can be evaluated side by side.
+ *
+ * Each game's feature vectors (season features plus the game's schedule context) and
+ * baseline probability are built once and shared by every scenario; a scenario only
+ * clones the vectors of the teams it changes.
+ */
+@Service
+public class ScenarioService {
+
+    /** One game with its teams' features and baseline probability, shared by every scenario. */
+    private record Matchup(Game game, TeamFeatureIndex.Entry home, TeamFeatureIndex.Entry away,
+                           double[] homeFeatures, double[] awayFeatures, double baseline) {}
+
+    private final Map<String, Scenario> scenarios = new ConcurrentHashMap<>();
+
+    private final TeamFeatureIndex teamFeatureIndex;
+    private final PredictionService predictionService;
+    private final GameRepository gameRepository;
+    private final ScheduleContextIndex scheduleContextIndex;
+
+    public ScenarioService(TeamFeatureIndex teamFeatureIndex, PredictionService predictionService,
+                           GameRepository gameRepository, ScheduleContextIndex scheduleContextIndex) {
+        this.teamFeatureIndex = teamFeatureIndex;
+        this.predictionService = predictionService;
+        this.gameRepository = gameRepository;
+        this.scheduleContextIndex = scheduleContextIndex;
+    }
+
+    public Collection<Scenario> getAllScenarios() {
+        return scenarios.values();
+    }
+
+    public Scenario getScenario(String name) {
+        Scenario scenario = scenarios.get(name);
+        if (scenario == null) throw new RuntimeException("Scenario not found with name " + name);
+        return scenario;
+    }
+
+    public Scenario createScenario(ScenarioRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("Scenario name is required");
+        }
+
+        Map<Long, double[]> deltasByTeam = new LinkedHashMap<>();
+        if (request.getDeltas() != null) {
+            request.getDeltas().forEach((teamId, byFeature) -> {
+                if (teamFeatureIndex.getById(teamId) == null) {
+                    throw new IllegalArgumentException("Team not found with id " + teamId);
+                }
+                double[] deltas = new double[TeamFeatures.COUNT];
+                byFeature.forEach((feature, delta) -> {
+                    int idx = TeamFeatures.indexOf(feature);
+                    if (idx < 0) throw new IllegalArgumentException("Unknown feature: " + feature);
+                    if (delta != null) deltas[idx] += delta;
+                });
+                deltasByTeam.put(teamId, deltas);
+            });
+        }
+
+        Scenario scenario = new Scenario(request.getName(), request.getDescription(), deltasByTeam);
+        if (scenarios.putIfAbsent(scenario.getName(), scenario) != null) {
+            throw new IllegalArgumentException("Scenario already exists with name " + scenario.getName());
+        }
+        return scenario;
+    }
+
+    public void deleteScenario(String name) {
+        scenarios.remove(name);
+    }
+
+    /** Today's games under one scenario, diffed against the baseline. */
+    public List<ScenarioPrediction> predictToday(String name) {
+        Scenario scenario = getScenario(name);
+        return evaluate(scenario, matchups(gameRepository.findByDate(LocalDate.now())));
+    }
+
+    /** Today's games under several scenarios, evaluated concurrently over the same games. */
+    public Map<String, List<ScenarioPrediction>> compareToday(List<String> names) {
+        List<Scenario> selected = names.stream().map(this::getScenario).toList();
+        List<Matchup> matchups = matchups(gameRepository.findByDate(LocalDate.now()));
+
+        Map<String, List<ScenarioPrediction>> results = new ConcurrentHashMap<>();
+        selected.parallelStream().forEach(s -> results.put(s.getName(), evaluate(s, matchups)));
+
+        Map<String, List<ScenarioPrediction>> ordered = new LinkedHashMap<>();
+        for (Scenario s : selected) ordered.put(s.getName(), results.get(s.getName()));
+        return ordered;
+    }
+
+    /** Each game's per-game feature copies (one clone per team) and baseline, before any scenario. */
+    private List<Matchup> matchups(List<Game> games) {
+        List<Matchup> matchups = new ArrayList<>();
+        for (Game g : games) {
+            if (g.getHomeTeam() == null || g.getAwayTeam() == null) continue;
+            TeamFeatureIndex.Entry home = teamFeatureIndex.getById(g.getHomeTeam().getId());
+            TeamFeatureIndex.Entry away = teamFeatureIndex.getById(g.getAwayTeam().getId());
+            if (home == null || away == null) continue;
+
+            double[] homeFeatures = scheduleContextIndex.withContext(home.getFeatures(), home.getId(), g.getDate(), home.getId());
+            double[] awayFeatures = scheduleContextIndex.withContext(away.getFeatures(), away.getId(), g.getDate(), home.getId());
+            double baseline = predictionService.homeWinProbability(homeFeatures, awayFeatures, false);
+            matchups.add(new Matchup(g, home, away, homeFeatures, awayFeatures, baseline));
+        }
+        return matchups;
+    }
+
+    private List<ScenarioPrediction> evaluate(Scenario scenario, List<Matchup> matchups) {
+        List<ScenarioPrediction> results = new ArrayList<>(matchups.size());
+        for (Matchup m : matchups) {
+            double withScenario = predictionService.homeWinProbability(
+                    scenario.apply(m.home().getId(), m.homeFeatures()),
+                    scenario.apply(m.away().getId(), m.awayFeatures()),
+                    false);
+
+            boolean homeWins = withScenario > 0.5;
+            double winnerProb = homeWins ? withScenario : 1.0 - withScenario;
+            results.add(new ScenarioPrediction(m.game().getId(), m.home().getName(), m.away().getName(),
+                    m.baseline(), withScenario, homeWins ? m.home().getName() : m.away().getName(),
+                    predictionService.convertProbabilityToAmericanOdds(winnerProb)));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ScheduleContextIndex - each team's games as sorted primitive arrays of days, with the
+ * arena (the home team's id) of each, for the schedule-context features: days since the
+ * last game, games in the last N days, back-to-backs and travel.
+ *
+ * Every lookup is a binary search over one team's arrays. The current season is read
+ * once at startup; after that only the games named in each GamesChangedEvent are re-read
+ * and merged into the affected teams' arrays (games of other seasons, e.g. from a
+ * backfill, are left out), and the index is rebuilt when a new season starts. Arrays are
+ * never modified once published (updates swap in new ones), so readers never lock.
+ */
+@Service
+public class ScheduleContextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleContextIndex.class);
+
+    /** Window of the GAMES_LAST_7_DAYS feature. */
+    public static final int RECENT_DAYS = 7;
+
+    /** One team's games, ascending by day. */
+    private static final class Timeline {
+        static final Timeline EMPTY = new Timeline(new int[0], new long[0], new long[0]);
+
+        final int[] days;      // epoch days
+        final long[] venues;   // home team id of each game
+        final long[] gameIds;
+
+        Timeline(int[] days, long[] venues, long[] gameIds) {
+            this.days = days;
+            this.venues = venues;
+            this.gameIds = gameIds;
+        }
+
+        /** Index of the first game on or after the day (days.length if there is none). */
+        int firstOnOrAfter(int day) {
+            int lo = 0, hi = days.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (days[mid] < day) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /** A copy without the dropped games and with the added ones merged in by day. */
+        Timeline merge(Set<Long> dropped, List<Row> added) {
+            added.sort(Comparator.comparingInt(Row::day));
+            int capacity = days.length + added.size();
+            int[] d = new int[capacity];
+            long[] v = new long[capacity];
+            long[] ids = new long[capacity];
+
+            int n = 0, i = 0, j = 0;
+            while (i < days.length || j < added.size()) {
+                if (i < days.length && dropped.contains(gameIds[i])) {
+                    i++;
+                } else if (j == added.size() || (i < days.length && days[i] <= added.get(j).day())) {
+                    d[n] = days[i];
+                    v[n] = venues[i];
+                    ids[n++] = gameIds[i++];
+                } else {
+                    Row r = added.get(j++);
+                    d[n] = r.day();
+                    v[n] = r.venue();
+                    ids[n++] = r.gameId();
+                }
+            }
+            return new Timeline(Arrays.copyOf(d, n), Arrays.copyOf(v, n), Arrays.copyOf(ids, n));
+        }
+    }
+
+    private record Row(long gameId, int day, long venue) {}
+
+    /** Where an indexed game sits, so a later change or delete can take it out without a query. */
+    private record Placement(long homeTeamId, long awayTeamId) {}
+
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Placement> placements = new HashMap<>(); // guarded by this
+    private int season; // guarded by this
+    private volatile Map<Long, Timeline> timelines = Map.of();
+
+    public ScheduleContextIndex(GameRepository gameRepository, ApplicationEventPublisher eventPublisher) {
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /** Runs after seasons are backfilled and closed seasons archived (GameArchiveService, @Order -1). */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        season = Game.seasonOf(LocalDate.now());
+        List<Game> games = gameRepository.findBySeasonOrderByDateAscIdAsc(season);
+        placements.clear();
+        timelines = apply(Map.of(), List.of(), games);
+        log.debug("Schedule context index built from {} games in {} us.", games.size(), (System.nanoTime() - start) / 1_000);
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent("scheduleContext"));
+    }
+
+    /**
+     * Re-read just the changed games; an empty set (a peer's work) means anything may have
+     * changed, and the first change of a new season drops the last one.
+     */
+    @EventListener
+    public synchronized void onGamesChanged(GamesChangedEvent event) {
+        if (event.getGameIds().isEmpty() || season != Game.seasonOf(LocalDate.now())) {
+            refresh();
+            return;
+        }
+        timelines = apply(timelines, event.getGameIds(), gameRepository.findAllById(event.getGameIds()));
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent("scheduleContext"));
+    }
+
+    /**
+     * Take the changed games out of their teams' timelines, then merge in the rows that
+     * still exist and are from the indexed season. Only the affected teams get new arrays;
+     * the rest are carried over.
+     */
+    private Map<Long, Timeline> apply(Map<Long, Timeline> base, Collection<Long> changedIds, List<Game> current) {
+        Map<Long, Set<Long>> dropped = new HashMap<>();
+        Map<Long, List<Row>> added = new HashMap<>();
+
+        for (Long id : changedIds) {
+            Placement old = placements.remove(id);
+            if (old == null) continue;
+            dropped.computeIfAbsent(old.homeTeamId(), k -> new HashSet<>()).add(id);
+            dropped.computeIfAbsent(old.awayTeamId(), k -> new HashSet<>()).add(id);
+        }
+        for (Game g : current) {
+            if (g.getDate() == null || g.getHomeTeam() == null || g.getAwayTeam() == null) continue;
+            if (Game.seasonOf(g.getDate()) != season) continue;
+            long home = g.getHomeTeam().getId();
+            long away = g.getAwayTeam().getId();
+            placements.put(g.getId(), new Placement(home, away));
+            Row row = new Row(g.getId(), (int) g.getDate().toEpochDay(), home);
+            added.computeIfAbsent(home, k -> new ArrayList<>()).add(row);
+            added.computeIfAbsent(away, k -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, Timeline> updated = new HashMap<>(base);
+        Set<Long> teams = new HashSet<>(dropped.keySet());
+        teams.addAll(added.keySet());
+        for (Long teamId : teams) {
+            updated.put(teamId, updated.getOrDefault(teamId, Timeline.EMPTY)
+                    .merge(dropped.getOrDefault(teamId, Set.of()), added.getOrDefault(teamId, new ArrayList<>())));
+        }
+        return updated;
+    }
+
+    /** Days since the team's last game before the date (1 = back-to-back), or 0 if it hasn't played this season. */
+    public int daysSinceLastGame(long teamId, LocalDate date) {
+        Timeline t = timelines.getOrDefault(teamId, Timeline.EMPTY);
+        int day = (int) date.toEpochDay();
+        int previous = t.firstOnOrAfter(day) - 1;
+        return previous < 0 ? 0 : day - t.days[previous];
+    }
+
+    /** Games the team played in the given number of days before the date (the date itself not included). */
+    public int gamesInLastDays(long teamId, LocalDate date, int days) {
+        Timeline t = timelines.getOrDefault(teamId, Timeline.EMPTY);
+        int day = (int) date.toEpochDay();
+        return t.firstOnOrAfter(day) - t.firstOnOrAfter(day - days);
+    }
+
+    public boolean isBackToBack(long teamId, LocalDate date) {
+        return daysSinceLastGame(teamId, date) == 1;
+    }
+
+    /** Whether the team's previous game was in another arena than this one (the home team's). */
+    public boolean travels(long teamId, LocalDate date, long venueTeamId) {
+        Timeline t = timelines.getOrDefault(teamId, Timeline.EMPTY);
+        int previous = t.firstOnOrAfter((int) date.toEpochDay()) - 1;
+        return previous >= 0 && t.venues[previous] != venueTeamId;
+    }
+
+    /** Write the schedule context of the team's game on the date into f (see TeamFeatures). */
+    public void fill(double[] f, long teamId, LocalDate date, long venueTeamId) {
+        int daysSinceLastGame = daysSinceLastGame(teamId, date);
+        f[TeamFeatures.DAYS_SINCE_LAST_GAME] = daysSinceLastGame;
+        f[TeamFeatures.GAMES_LAST_7_DAYS] = gamesInLastDays(teamId, date, RECENT_DAYS);
+        f[TeamFeatures.BACK_TO_BACK] = daysSinceLastGame == 1 ? 1.0 : 0.0;
+        f[TeamFeatures.TRAVELLED] = travels(teamId, date, venueTeamId) ? 1.0 : 0.0;
+    }
+
+    /** A copy of a (shared) feature vector with the game's schedule context filled in. */
+    public double[] withContext(double[] features, long teamId, LocalDate date, long venueTeamId) {
+        double[] f = features.clone();
+        fill(f, teamId, date, venueTeamId);
+        return f;
+    }
+}
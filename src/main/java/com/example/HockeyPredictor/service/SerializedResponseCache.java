@@ -0,0 +1,102 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.event.ProductionModelChangedEvent;
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SerializedResponseCache - already-serialized JSON bodies for hot read endpoints,
+ * valid for one data version. Any team or game change bumps the version, so a
+ * repeat request between ingests skips both the queries and serialization.
+ *
+ * A change bumps the version twice: on the change event itself, for bodies read
+ * straight from the database, and again on each ReadModelUpdatedEvent, so a body built
+ * from an index that hadn't caught up yet is dropped too.
+ */
+@Service
+public class SerializedResponseCache {
+
+    private static class CachedBody {
+        final long version;
+        final byte[] json;
+
+        CachedBody(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong dataVersion = new AtomicLong();
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** Cached JSON for key, or serialize what producer returns and cache it for the current data version. */
+    public byte[] get(String key, Supplier<?> producer) {
+        // Read the version first: if data changes while producing, the entry is already stale
+        long version = dataVersion.get();
+        CachedBody cached = bodies.get(key);
+        if (cached != null && cached.version == version) {
+            return cached.json;
+        }
+
+        byte[] json = serialize(producer.get());
+        bodies.put(key, new CachedBody(version, json));
+        return json;
+    }
+
+    public byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTeamRatingsChanged(TeamRatingsChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onGamesChanged(GamesChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onProductionModelChanged(ProductionModelChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        dataVersion.incrementAndGet();
+        bodies.clear();
+    }
+}
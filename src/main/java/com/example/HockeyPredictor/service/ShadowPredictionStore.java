@@ -0,0 +1,141 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.ModelScore;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.ShadowPrediction;
+import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.repository.ShadowPredictionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ShadowPredictionStore - persists shadow model outputs off the request thread and
+ * scores them (Brier score, log loss, accuracy) against final results, side by side
+ * with what the production model said for the same games.
+ */
+@Service
+public class ShadowPredictionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowPredictionStore.class);
+
+    private static final double EPSILON = 1e-6; // keeps log loss finite for 0/1 probabilities
+
+    private final ShadowPredictionRepository shadowPredictionRepository;
+    private final GameRepository gameRepository;
+    private final GameArchiveService gameArchiveService;
+
+    public ShadowPredictionStore(ShadowPredictionRepository shadowPredictionRepository, GameRepository gameRepository,
+                                 GameArchiveService gameArchiveService) {
+        this.shadowPredictionRepository = shadowPredictionRepository;
+        this.gameRepository = gameRepository;
+        this.gameArchiveService = gameArchiveService;
+    }
+
+    /**
+     * Write in the background; a failed write loses shadow data, never a prediction. Only the
+     * first prediction per model and game is kept: later ones (after a cache invalidation) may
+     * come from totals that already include the game's result.
+     */
+    public void record(List<ShadowPrediction> rows) {
+        if (rows.isEmpty()) return;
+        Thread.ofVirtual().start(() -> {
+            try {
+                saveFirstPredictions(rows);
+            } catch (Exception e) {
+                log.warn("Failed to store {} shadow predictions: {}", rows.size(), e.getMessage());
+            }
+        });
+    }
+
+    // Serialized so two concurrent slates can't both see a game as unrecorded
+    private synchronized void saveFirstPredictions(List<ShadowPrediction> rows) {
+        Map<String, List<ShadowPrediction>> byModel = rows.stream()
+                .collect(Collectors.groupingBy(ShadowPrediction::getModelKey, LinkedHashMap::new, Collectors.toList()));
+        List<ShadowPrediction> fresh = new ArrayList<>();
+        byModel.forEach((modelKey, modelRows) -> {
+            Set<Long> recorded = shadowPredictionRepository.findRecordedGameIds(modelKey,
+                    modelRows.stream().map(ShadowPrediction::getGameId).toList());
+            for (ShadowPrediction row : modelRows) {
+                if (!recorded.contains(row.getGameId())) fresh.add(row);
+            }
+        });
+        if (!fresh.isEmpty()) shadowPredictionRepository.saveAll(fresh);
+    }
+
+    /**
+     * Score a model over its completed games, using its earliest prediction for each game made
+     * before the game's date ended (rows written before predictions were deduplicated, or by
+     * another instance, may hold later ones).
+     */
+    public ModelScore score(String modelKey) {
+        Map<Long, ShadowPrediction> earliest = new LinkedHashMap<>();
+        for (ShadowPrediction p : shadowPredictionRepository.findByModelKeyOrderByCreatedAtAsc(modelKey)) {
+            if (p.getGameDate() == null) continue;
+            Instant gameDateEnd = p.getGameDate().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            if (p.getCreatedAt().isBefore(gameDateEnd)) earliest.putIfAbsent(p.getGameId(), p);
+        }
+
+        int games = 0;
+        int correct = 0;
+        int productionCorrect = 0;
+        double brier = 0;
+        double productionBrier = 0;
+        double logLoss = 0;
+        double productionLogLoss = 0;
+        for (Map.Entry<Long, int[]> result : results(earliest.keySet()).entrySet()) {
+            int[] goals = result.getValue();
+            // A hockey game can't end 0-0, so a score means the result is in
+            if (goals[0] == 0 && goals[1] == 0) continue;
+            double outcome = goals[0] > goals[1] ? 1.0 : 0.0;
+            ShadowPrediction p = earliest.get(result.getKey());
+
+            games++;
+            brier += square(p.getHomeWinProbability() - outcome);
+            productionBrier += square(p.getProductionHomeWinProbability() - outcome);
+            logLoss += logLoss(p.getHomeWinProbability(), outcome);
+            productionLogLoss += logLoss(p.getProductionHomeWinProbability(), outcome);
+            if ((p.getHomeWinProbability() > 0.5) == (outcome == 1.0)) correct++;
+            if ((p.getProductionHomeWinProbability() > 0.5) == (outcome == 1.0)) productionCorrect++;
+        }
+
+        if (games == 0) return new ModelScore(modelKey, 0, 0, 0, 0, 0, 0, 0);
+        return new ModelScore(modelKey, games,
+                brier / games, logLoss / games, (double) correct / games,
+                productionBrier / games, productionLogLoss / games, (double) productionCorrect / games);
+    }
+
+    /** Scores ({home, away}) of the games: live rows, then closed seasons from the archive. */
+    private Map<Long, int[]> results(Set<Long> gameIds) {
+        Map<Long, int[]> results = new HashMap<>();
+        for (Game g : gameRepository.findAllById(gameIds)) {
+            results.put(g.getId(), new int[] {g.getHomeTeamGoals(), g.getAwayTeamGoals()});
+        }
+        if (results.size() < gameIds.size()) {
+            Set<Long> archived = new HashSet<>(gameIds);
+            archived.removeAll(results.keySet());
+            results.putAll(gameArchiveService.findArchivedScores(archived));
+        }
+        return results;
+    }
+
+    private static double square(double x) {
+        return x * x;
+    }
+
+    private static double logLoss(double p, double outcome) {
+        p = Math.max(EPSILON, Math.min(1 - EPSILON, p));
+        return -(outcome * Math.log(p) + (1 - outcome) * Math.log(1 - p));
+    }
+}
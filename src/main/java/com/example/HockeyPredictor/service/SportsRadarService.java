@@ -1,28 +1,44 @@
 package com.example.HockeyPredictor.service;
 
+import com.example.HockeyPredictor.event.GamesChangedEvent;
 import com.example.HockeyPredictor.model.Team;
 import com.example.HockeyPredictor.model.Game;
 import com.example.HockeyPredictor.repository.TeamRepository;
 import com.example.HockeyPredictor.repository.GameRepository;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 
 import java.time.LocalDate;
-import java.time.Month;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 /**
  * SportsRadarService - fetches Teams, Team analytics, and Games from Sportradar
  * and populates Team and Game entities.
  *
  * NOTE: Ensure SPORTRADAR_API_KEY environment variable is set before running.
+ *
+ * Per-team requests run concurrently on virtual threads; the number of requests
+ * in flight is capped by sportradar.http.max-concurrent-requests.
  */
 @Service
 public class SportsRadarService {
@@ -31,43 +47,60 @@ public class SportsRadarService {
 
     private final TeamRepository teamRepository;
     private final GameRepository gameRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final TeamSnapshotService teamSnapshotService;
+    private final TeamService teamService;
+    private final StrengthSolverService strengthSolverService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestClient restClient;
     private final String apiKey;
-    private final String baseUrl = "https://api.sportradar.com/nhl/trial/v7/en";
+    private final Semaphore requestPermits;
 
     // --- Rate-limit handling configuration ---
     private static final int MAX_RATE_LIMIT_RETRIES = 3;
     private static final long RATE_LIMIT_WAIT_MS = 60_000; // 60 seconds
 
-    public SportsRadarService(TeamRepository teamRepository, GameRepository gameRepository) {
+    public SportsRadarService(TeamRepository teamRepository, GameRepository gameRepository,
+                              TeamSnapshotService teamSnapshotService, TeamService teamService,
+                              StrengthSolverService strengthSolverService, ApplicationEventPublisher eventPublisher,
+                              RestClient sportsRadarRestClient,
+                              @Value("${sportradar.api.key:}") String apiKey,
+                              @Value("${sportradar.http.max-concurrent-requests:4}") int maxConcurrentRequests) {
         this.teamRepository = teamRepository;
         this.gameRepository = gameRepository;
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
-
-        // Read API key from environment variable - fallback to null if not present
-        String key = System.getenv("SPORTRADAR_API_KEY");
-        if (key == null || key.isBlank()) {
+        this.teamSnapshotService = teamSnapshotService;
+        this.teamService = teamService;
+        this.strengthSolverService = strengthSolverService;
+        this.eventPublisher = eventPublisher;
+        this.restClient = sportsRadarRestClient;
+        this.requestPermits = new Semaphore(Math.max(1, maxConcurrentRequests));
+
+        // API key comes from SPORTRADAR_API_KEY (via application.properties) - null if not present
+        if (apiKey == null || apiKey.isBlank()) {
             log.error("SPORTRADAR_API_KEY environment variable is not set. Set it before running the app.");
+            apiKey = null;
         }
-        this.apiKey = key;
+        this.apiKey = apiKey;
     }
 
     /** Season year calculation: July -> next June uses the earlier year */
     private int getSeasonYear() {
-        LocalDate now = LocalDate.now();
-        return (now.getMonthValue() >= Month.JULY.getValue()) ? now.getYear() : now.getYear() - 1;
+        return Game.seasonOf(LocalDate.now());
     }
 
-    /** GET helper returning JsonNode with rate-limit retry logic */
-    private JsonNode getJson(String url) throws Exception {
+    /**
+     * GET helper returning JsonNode with rate-limit retry logic.
+     * The (gzip-inflated) body is parsed straight off the response stream.
+     */
+    private JsonNode getJson(String url, Object... uriVariables) throws Exception {
         int retries = 0;
 
         while (true) {
+            requestPermits.acquire();
             try {
-                String resp = restTemplate.getForObject(url, String.class);
-                return objectMapper.readTree(resp);
+                return restClient.get()
+                        .uri(url, uriVariables)
+                        .retrieve()
+                        .body(JsonNode.class);
 
             } catch (HttpClientErrorException e) {
                 if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
@@ -78,12 +111,16 @@ public class SportsRadarService {
                     }
                     log.warn("Rate limited on request ({}). Pausing to avoid rate limit... Retry {}/{}",
                             url, retries, MAX_RATE_LIMIT_RETRIES);
-                    Thread.sleep(RATE_LIMIT_WAIT_MS);
-                    continue;
+                } else {
+                    // Other HTTP errors are not retried
+                    throw e;
                 }
-                // Other HTTP errors are not retried
-                throw e;
+            } finally {
+                requestPermits.release();
             }
+
+            // Back off without holding a permit so other requests can proceed
+            Thread.sleep(RATE_LIMIT_WAIT_MS);
         }
     }
 
@@ -98,128 +135,238 @@ public class SportsRadarService {
         }
 
         try {
-            // Get all teams (league teams)
-            String teamsUrl = String.format("%s/league/teams.json?api_key=%s", baseUrl, apiKey);
-            JsonNode teamsRoot = getJson(teamsUrl);
-            JsonNode teamsArray = teamsRoot.path("teams");
-            if (!teamsArray.isArray()) {
-                log.warn("teams array not found in teams response");
-                return;
-            }
+            List<JsonNode> leagueTeams = fetchLeagueTeams();
+            if (leagueTeams.isEmpty()) return;
 
-            int seasonYear = getSeasonYear();
+            TeamFetch fetch = fetchAndSaveTeams(leagueTeams);
+            log.info("Teams + analytics updated from SportsRadar ({} of {} teams changed, {} failed).",
+                    fetch.changed().size(), leagueTeams.size(), fetch.failedTeamIds().size());
+        } catch (Exception e) {
+            log.error("Error fetching teams from SportsRadar: ", e);
+        }
+    }
 
-            // iterate league teams, create or update Team basic info
-            for (JsonNode tnode : teamsArray) {
-                String teamId = tnode.path("id").asText(null);
-                String market = tnode.path("market").asText("");
-                String name = tnode.path("name").asText("");
-                String fullName = (market.isEmpty() ? name : market + " " + name);
+    /**
+     * The league's teams (id, market, name per team), read from the league hierarchy so each
+     * entry also carries its "conference" and "division". One entry per team to fetch.
+     */
+    public List<JsonNode> fetchLeagueTeams() throws Exception {
+        List<JsonNode> teams = new ArrayList<>();
+        if (apiKey == null) {
+            log.error("API key missing; aborting fetchLeagueTeams.");
+            return teams;
+        }
 
-                // find existing team by exact name; if not found, try contains ignoring case
-                Optional<Team> opt = teamRepository.findByName(fullName);
-                Team team = opt.orElseGet(() -> teamRepository.findByNameContainingIgnoreCase(name).orElse(new Team()));
+        JsonNode hierarchyRoot = getJson("/league/hierarchy.json?api_key={key}", apiKey);
+        JsonNode conferences = hierarchyRoot.path("conferences");
+        if (!conferences.isArray()) {
+            log.warn("conferences array not found in hierarchy response");
+            return teams;
+        }
+        for (JsonNode conference : conferences) {
+            for (JsonNode division : conference.path("divisions")) {
+                for (JsonNode tnode : division.path("teams")) {
+                    ObjectNode team = tnode.deepCopy();
+                    team.put("conference", conference.path("name").asText(""));
+                    team.put("division", division.path("name").asText(""));
+                    teams.add(team);
+                }
+            }
+        }
+        return teams;
+    }
 
-                team.setName(fullName); // e.g., "Colorado Avalanche"
+    /** Outcome of a team fetch: the teams that changed, and the (Sportradar) ids of the ones that failed. */
+    public record TeamFetch(List<Team> changed, Set<String> failedTeamIds) {}
 
-                // Get analytics for this team by teamId
-                try {
-                    String analyticsUrl = String.format("%s/seasons/%d/REG/teams/%s/analytics.json?api_key=%s",
-                            baseUrl, seasonYear, teamId, apiKey);
-                    JsonNode analyticsRoot = getJson(analyticsUrl);
-                    String statisticsUrl = String.format("%s/seasons/%d/REG/teams/%s/statistics.json?api_key=%s",
-                            baseUrl, seasonYear, teamId, apiKey);
-                    JsonNode statisticsRoot = getJson(statisticsUrl);
-
-                    // The Analytics API puts season stats under:
-                    // own_record.statistics.total  (and opponents.statistics.total)
-                    JsonNode analyticsOwnTotal = analyticsRoot.path("own_record").path("statistics").path("total");
-                    JsonNode analyticsAgainstTotal = analyticsRoot.path("opponents").path("statistics").path("total");
-                    if (analyticsOwnTotal.isMissingNode()) {
-                        log.warn("No analytics own_record.statistics.total for team {} (id={})", fullName, teamId);
-                    } else {
-                        team.setCorsiFor(analyticsOwnTotal.path("corsi_for").asInt(team.getCorsiFor()));
-                        team.setFenwickFor(analyticsOwnTotal.path("fenwick_for").asInt(team.getFenwickFor()));
-                        team.setCorsiAgainst(analyticsOwnTotal.path("corsi_against").asInt(team.getCorsiFor()));
-                        team.setFenwickAgainst(analyticsOwnTotal.path("fenwick_against").asInt(team.getFenwickFor()));
-                        team.setOpponentsCorsiFor(analyticsAgainstTotal.path("corsi_for").asInt(team.getOpponentsCorsiFor()));
-                        team.setOpponentsFenwickFor(analyticsAgainstTotal.path("fenwick_for").asInt(team.getOpponentsFenwickFor()));
+    /**
+     * Fetch analytics + statistics for the given league teams (each on its own virtual thread)
+     * and save the ones whose stats changed. A team whose fetch fails is not saved and is
+     * reported in failedTeamIds, so the caller can retry it.
+     */
+    public TeamFetch fetchAndSaveTeams(List<JsonNode> leagueTeams) {
+        int seasonYear = getSeasonYear();
+
+        List<Team> fetched = new ArrayList<>();
+        Set<String> failed = new LinkedHashSet<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Team>> tasks = new ArrayList<>();
+            for (JsonNode tnode : leagueTeams) {
+                tasks.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return populateTeam(tnode, seasonYear);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
                     }
+                }, executor));
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    fetched.add(tasks.get(i).join());
+                } catch (CompletionException e) {
+                    JsonNode tnode = leagueTeams.get(i);
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.warn("Failed to fetch analytics for team {} (id={}): {}",
+                            tnode.path("name").asText(""), tnode.path("id").asText(null), cause.getMessage());
+                    failed.add(tnode.path("id").asText(""));
+                }
+            }
+        }
 
-                    // The Statistics API puts stats under own_record.statistics.total
-                    JsonNode statisticsOwnTotal = statisticsRoot.path("own_record").path("statistics").path("total");
-                    JsonNode statisticsPowerplayTotal = statisticsRoot.path("own_record").path("statistics").path("powerplay");
-                    JsonNode statisticsPenaltyTotal = statisticsRoot.path("own_record").path("statistics").path("shorthanded");
-                    JsonNode statisticsGoaltendingTotal = statisticsRoot.path("own_record").path("goaltending").path("total");
-                    if (statisticsOwnTotal.isMissingNode()) {
-                        log.warn("No statistics own_record.statistics.total for team {} (id={})", fullName, teamId);
-                    } else{
-                        team.setGoalsFor(statisticsOwnTotal.path("goals").asInt(team.getGoalsFor()));
-                        team.setPenalties(statisticsOwnTotal.path("penalties").asInt(team.getPenalties()));
-                        team.setPowerplays(statisticsOwnTotal.path("powerplays").asInt(team.getPowerplays()));
-                        team.setHits(statisticsOwnTotal.path("hits").asInt(team.getHits()));
-                        team.setGiveaways(statisticsOwnTotal.path("giveaways").asInt(team.getGiveaways()));
-                        team.setTakeaways(statisticsOwnTotal.path("takeaways").asInt(team.getTakeaways()));
-                        team.setShotsFor(statisticsOwnTotal.path("shots").asInt(team.getShotsFor()));
-                        team.setPowerplayPercentage(statisticsPowerplayTotal.path("percentage").asDouble(team.getPowerplayPercentage()));
-                        team.setPenaltyKillPercentage(statisticsPenaltyTotal.path("kill_pct").asDouble(team.getPenaltyKillPercentage()));
-                        team.setWins(statisticsGoaltendingTotal.path("wins").asInt(team.getWins()));
-                        team.setLosses(statisticsGoaltendingTotal.path("losses").asInt(team.getLosses()));
-                        team.setOvertimeLosses(statisticsGoaltendingTotal.path("overtime_losses").asInt(team.getOvertimeLosses()));
-                        team.setGoalsAgainst(statisticsGoaltendingTotal.path("goals_against").asInt(team.getGoalsAgainst()));
-                        team.setShotsAgainst(statisticsGoaltendingTotal.path("shots_against").asInt(team.getShotsAgainst()));
-                        team.setSavePercentage(statisticsGoaltendingTotal.path("saves_pct").asDouble(team.getSavePercentage()));
-
-                        team.setGoalDifferential(team.getGoalsFor() - team.getGoalsAgainst());
-                        team.setPoints(team.getWins() * 2 + team.getOvertimeLosses());
-                    }
+        // Only teams whose stats actually changed are written
+        return new TeamFetch(teamService.saveChangedTeams(fetched), failed);
+    }
 
-                } catch (HttpClientErrorException e) {
-                    if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                        log.warn("Rate limited while fetching analytics for team {}. Pausing before retry.", fullName);
-                        try {
-                            Thread.sleep(RATE_LIMIT_WAIT_MS);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                        }
-                        continue; // will retry next iteration automatically
-                    } else {
-                        log.warn("Failed to fetch analytics for team {} (id={}): {}", fullName, teamId, e.getMessage());
-                    }
-                } catch (Exception ex) {
-                    log.warn("Failed to fetch analytics for team {} (id={}): {}", fullName, teamId, ex.getMessage());
-                }
+    /**
+     * Fetch analytics + statistics for one league team; returns it unsaved. Throws if either
+     * document can't be fetched (rate limits are already retried in getJson).
+     */
+    private Team populateTeam(JsonNode tnode, int seasonYear) throws Exception {
+        if (apiKey == null) throw new IllegalStateException("API key missing");
+        String teamId = tnode.path("id").asText(null);
+        String market = tnode.path("market").asText("");
+        String name = tnode.path("name").asText("");
+        String fullName = (market.isEmpty() ? name : market + " " + name);
+
+        // find existing team by exact name; if not found, try contains ignoring case
+        Optional<Team> opt = teamRepository.findByName(fullName);
+        Team team = opt.orElseGet(() -> teamRepository.findByNameContainingIgnoreCase(name).orElse(new Team()));
+
+        team.setName(fullName); // e.g., "Colorado Avalanche"
+        if (tnode.hasNonNull("conference")) team.setConference(tnode.get("conference").asText());
+        if (tnode.hasNonNull("division")) team.setDivision(tnode.get("division").asText());
+
+        // Analytics + statistics for this team by teamId; both documents are independent, so request them concurrently
+        CompletableFuture<JsonNode> analyticsFuture = fetchAsync(
+                "/seasons/{season}/REG/teams/{team}/analytics.json?api_key={key}", seasonYear, teamId, apiKey);
+        CompletableFuture<JsonNode> statisticsFuture = fetchAsync(
+                "/seasons/{season}/REG/teams/{team}/statistics.json?api_key={key}", seasonYear, teamId, apiKey);
+        JsonNode analyticsRoot = await(analyticsFuture);
+        JsonNode statisticsRoot = await(statisticsFuture);
+
+        // The Analytics API puts season stats under:
+        // own_record.statistics.total  (and opponents.statistics.total)
+        JsonNode analyticsOwnTotal = analyticsRoot.path("own_record").path("statistics").path("total");
+        JsonNode analyticsAgainstTotal = analyticsRoot.path("opponents").path("statistics").path("total");
+        if (analyticsOwnTotal.isMissingNode()) {
+            log.warn("No analytics own_record.statistics.total for team {} (id={})", fullName, teamId);
+        } else {
+            team.setCorsiFor(analyticsOwnTotal.path("corsi_for").asInt(team.getCorsiFor()));
+            team.setFenwickFor(analyticsOwnTotal.path("fenwick_for").asInt(team.getFenwickFor()));
+            team.setCorsiAgainst(analyticsOwnTotal.path("corsi_against").asInt(team.getCorsiFor()));
+            team.setFenwickAgainst(analyticsOwnTotal.path("fenwick_against").asInt(team.getFenwickFor()));
+            team.setOpponentsCorsiFor(analyticsAgainstTotal.path("corsi_for").asInt(team.getOpponentsCorsiFor()));
+            team.setOpponentsFenwickFor(analyticsAgainstTotal.path("fenwick_for").asInt(team.getOpponentsFenwickFor()));
+        }
+
+        // The Statistics API puts stats under own_record.statistics.total
+        JsonNode statisticsOwnTotal = statisticsRoot.path("own_record").path("statistics").path("total");
+        JsonNode statisticsPowerplayTotal = statisticsRoot.path("own_record").path("statistics").path("powerplay");
+        JsonNode statisticsPenaltyTotal = statisticsRoot.path("own_record").path("statistics").path("shorthanded");
+        JsonNode statisticsGoaltendingTotal = statisticsRoot.path("own_record").path("goaltending").path("total");
+        if (statisticsOwnTotal.isMissingNode()) {
+            log.warn("No statistics own_record.statistics.total for team {} (id={})", fullName, teamId);
+        } else{
+            team.setGoalsFor(statisticsOwnTotal.path("goals").asInt(team.getGoalsFor()));
+            team.setPenalties(statisticsOwnTotal.path("penalties").asInt(team.getPenalties()));
+            team.setPowerplays(statisticsOwnTotal.path("powerplays").asInt(team.getPowerplays()));
+            team.setHits(statisticsOwnTotal.path("hits").asInt(team.getHits()));
+            team.setGiveaways(statisticsOwnTotal.path("giveaways").asInt(team.getGiveaways()));
+            team.setTakeaways(statisticsOwnTotal.path("takeaways").asInt(team.getTakeaways()));
+            team.setShotsFor(statisticsOwnTotal.path("shots").asInt(team.getShotsFor()));
+            team.setPowerplayPercentage(statisticsPowerplayTotal.path("percentage").asDouble(team.getPowerplayPercentage()));
+            team.setPenaltyKillPercentage(statisticsPenaltyTotal.path("kill_pct").asDouble(team.getPenaltyKillPercentage()));
+            team.setWins(statisticsGoaltendingTotal.path("wins").asInt(team.getWins()));
+            team.setLosses(statisticsGoaltendingTotal.path("losses").asInt(team.getLosses()));
+            team.setOvertimeLosses(statisticsGoaltendingTotal.path("overtime_losses").asInt(team.getOvertimeLosses()));
+            team.setGoalsAgainst(statisticsGoaltendingTotal.path("goals_against").asInt(team.getGoalsAgainst()));
+            team.setShotsAgainst(statisticsGoaltendingTotal.path("shots_against").asInt(team.getShotsAgainst()));
+            team.setSavePercentage(statisticsGoaltendingTotal.path("saves_pct").asDouble(team.getSavePercentage()));
+
+            team.setGoalDifferential(team.getGoalsFor() - team.getGoalsAgainst());
+            team.setPoints(team.getWins() * 2 + team.getOvertimeLosses());
+        }
+
+        return team;
+    }
 
-                teamRepository.save(team);
+    /** Run getJson on a virtual thread. */
+    private CompletableFuture<JsonNode> fetchAsync(String url, Object... uriVariables) {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                future.complete(getJson(url, uriVariables));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
             }
+        });
+        return future;
+    }
 
-            log.info("Teams + analytics updated from SportsRadar.");
-        } catch (Exception e) {
-            log.error("Error fetching teams from SportsRadar: ", e);
+    /** Join a fetch, rethrowing the original failure rather than an ExecutionException wrapper. */
+    private static JsonNode await(CompletableFuture<JsonNode> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            throw e;
         }
     }
 
-    /** Fetch schedule for a specific date (default today) */
-    public void fetchAndPopulateGamesForToday() {
+    /** Fetch schedule for today */
+    public List<Game> fetchAndPopulateGamesForToday() {
+        return fetchAndPopulateGamesForDate(LocalDate.now());
+    }
+
+    /**
+     * Fetch the schedule for a specific date and upsert its games (matched on date + teams).
+     * Final scores are filled in for games that are over. Returns the saved games; failures
+     * are logged and give an empty list.
+     */
+    public List<Game> fetchAndPopulateGamesForDate(LocalDate date) {
         if (apiKey == null) {
-            log.error("API key missing; aborting fetchAndPopulateGamesForToday.");
-            return;
+            log.error("API key missing; aborting fetchAndPopulateGamesForDate.");
+            return new ArrayList<>();
         }
 
         try {
-            LocalDate today = LocalDate.now();
-            int y = today.getYear();
-            int m = today.getMonthValue();
-            int d = today.getDayOfMonth();
+            return fetchGamesForDate(date);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                log.warn("Rate limited while fetching game schedule. Pausing to avoid rate limit...");
+                try {
+                    Thread.sleep(RATE_LIMIT_WAIT_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                log.error("HTTP error fetching schedule: {}", e.getMessage());
+            }
+        } catch (Exception e) {
+            log.error("Error fetching schedule: ", e);
+        }
+        return new ArrayList<>();
+    }
 
-            String scheduleUrl = String.format("%s/games/%d/%02d/%02d/schedule.json?api_key=%s",
-                    baseUrl, y, m, d, apiKey);
+    /**
+     * Same as fetchAndPopulateGamesForDate, but a failed fetch throws (for work items, which
+     * retry). Games saved before a failure are still announced in a GamesChangedEvent.
+     */
+    public List<Game> fetchGamesForDate(LocalDate date) throws Exception {
+        if (apiKey == null) throw new IllegalStateException("API key missing");
 
-            JsonNode scheduleRoot = getJson(scheduleUrl);
+        List<Game> saved = new ArrayList<>();
+        try {
+            int y = date.getYear();
+            int m = date.getMonthValue();
+            int d = date.getDayOfMonth();
+
+            JsonNode scheduleRoot = getJson("/games/{y}/{m}/{d}/schedule.json?api_key={key}",
+                    y, String.format("%02d", m), String.format("%02d", d), apiKey);
             JsonNode gamesNode = scheduleRoot.path("games");
             if (!gamesNode.isArray() || gamesNode.size() == 0) {
-                log.info("No scheduled games found for {}", today);
-                return;
+                log.info("No scheduled games found for {}", date);
+                return saved;
             }
 
             Iterator<JsonNode> it = gamesNode.elements();
@@ -252,31 +399,49 @@ public class SportsRadarService {
                 Team home = homeOpt.get();
                 Team away = awayOpt.get();
 
-                Game game = new Game(home, away, 0, 0, today);
-                gameRepository.save(game);
+                Game game = gameRepository.findFirstByDateAndHomeTeamAndAwayTeam(date, home, away)
+                        .orElseGet(() -> new Game(home, away, 0, 0, date));
+
+                String status = g.path("status").asText("");
+                if (("closed".equals(status) || "complete".equals(status)) && g.has("home_points")) {
+                    game.setHomeTeamGoals(g.path("home_points").asInt(game.getHomeTeamGoals()));
+                    game.setAwayTeamGoals(g.path("away_points").asInt(game.getAwayTeamGoals()));
+                }
+
+                saved.add(gameRepository.save(game));
                 log.debug("Saved game: {} vs {}", home.getName(), away.getName());
             }
 
-            log.info("Games scheduled for {} processed.", LocalDate.now());
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                log.warn("Rate limited while fetching game schedule. Pausing to avoid rate limit...");
-                try {
-                    Thread.sleep(RATE_LIMIT_WAIT_MS);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
-            } else {
-                log.error("HTTP error fetching schedule: {}", e.getMessage());
+            log.info("Games scheduled for {} processed.", date);
+            return saved;
+        } finally {
+            if (!saved.isEmpty()) {
+                eventPublisher.publishEvent(new GamesChangedEvent(
+                        saved.stream().map(Game::getId).collect(Collectors.toSet())));
             }
-        } catch (Exception e) {
-            log.error("Error fetching schedule: ", e);
         }
     }
 
     /** Convenience method to update all relevant data. */
     public void updateAllFromSportsRadar() {
         fetchAndPopulateTeamsWithAnalytics();
+        // Yesterday's final scores feed the strength-of-schedule solve
+        strengthSolverService.addGames(fetchAndPopulateGamesForDate(LocalDate.now().minusDays(1)));
+        fetchAndPopulateGamesForToday();
+        teamSnapshotService.writeSnapshot();
+    }
+
+    /** Fetch the schedules and results for from..to (inclusive), one date after another. */
+    public void backfillSchedule(LocalDate from, LocalDate to) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            strengthSolverService.addGames(fetchAndPopulateGamesForDate(date));
+        }
+        teamSnapshotService.writeSnapshot();
+    }
+
+    /** Refresh only today's matchups (team stats are left as they are). */
+    public void updateMatchupsFromSportsRadar() {
         fetchAndPopulateGamesForToday();
+        teamSnapshotService.writeSnapshot();
     }
 }
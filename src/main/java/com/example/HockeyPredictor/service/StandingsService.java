@@ -0,0 +1,262 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.LeaderboardRow;
+import com.example.HockeyPredictor.dto.LeaderboardView;
+import com.example.HockeyPredictor.dto.StandingRow;
+import com.example.HockeyPredictor.dto.StandingsView;
+import com.example.HockeyPredictor.dto.TeamRanking;
+import com.example.HockeyPredictor.event.ProductionModelChangedEvent;
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * StandingsService - materialized standings and leaderboards.
+ *
+ * Rebuilt whenever team ratings change (ingest, team edits, a new strength solve,
+ * another production model) into an immutable, versioned Standings object that is
+ * swapped in whole, so a reader always sees one consistent table. Every grouping and leaderboard is stored
+ * pre-sorted, with ranks keyed by team id: top-N is a sublist and rank-of-team a
+ * map lookup.
+ */
+@Service
+public class StandingsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingsService.class);
+
+    public static final String RATING = "rating";
+    public static final String POINTS = "points";
+    public static final String POINTS_PERCENTAGE = "pointsPercentage";
+
+    // Leaderboards: the model rating, points, and every season rating input (see TeamFeatures)
+    private static final List<String> METRICS;
+    static {
+        List<String> metrics = new ArrayList<>(List.of(RATING, POINTS, POINTS_PERCENTAGE));
+        for (int i = 0; i < TeamFeatures.SEASON_COUNT; i++) metrics.add(TeamFeatures.nameOf(i));
+        METRICS = List.copyOf(metrics);
+    }
+
+    // Stats where the smallest value ranks first
+    private static final Set<String> LOWER_IS_BETTER = Set.of(
+            "losses", "shotsAgainst", "corsiAgainst", "fenwickAgainst", "penalties", "giveaways");
+
+    private static final String UNASSIGNED = "Unassigned";
+
+    /** One immutable version of the read model. */
+    private static final class Standings {
+        final long version;
+        final List<StandingRow> league;
+        final Map<String, List<StandingRow>> byConference;
+        final Map<String, List<StandingRow>> byDivision;
+        final Map<Long, StandingRow> byTeam;
+        final Map<String, List<LeaderboardRow>> leaderboards;
+        final Map<Long, Map<String, Integer>> leaderboardRanks;
+
+        Standings(long version, List<StandingRow> league, Map<String, List<StandingRow>> byConference,
+                  Map<String, List<StandingRow>> byDivision, Map<Long, StandingRow> byTeam,
+                  Map<String, List<LeaderboardRow>> leaderboards, Map<Long, Map<String, Integer>> leaderboardRanks) {
+            this.version = version;
+            this.league = league;
+            this.byConference = byConference;
+            this.byDivision = byDivision;
+            this.byTeam = byTeam;
+            this.leaderboards = leaderboards;
+            this.leaderboardRanks = leaderboardRanks;
+        }
+    }
+
+    /** A team's inputs for one rebuild. */
+    private static final class Line {
+        final Team team;
+        final double[] features;
+        final double rating;
+        final int gamesPlayed;
+        final double pointsPercentage;
+
+        Line(Team team, double[] features, double rating) {
+            this.team = team;
+            this.features = features;
+            this.rating = rating;
+            this.gamesPlayed = team.getWins() + team.getLosses() + team.getOvertimeLosses();
+            this.pointsPercentage = gamesPlayed == 0 ? 0.0 : team.getPoints() / (2.0 * gamesPlayed);
+        }
+    }
+
+    private final TeamRepository teamRepository;
+    private final PredictionService predictionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Standings standings = new Standings(0, List.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    public StandingsService(TeamRepository teamRepository, PredictionService predictionService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.teamRepository = teamRepository;
+        this.predictionService = predictionService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /** Runs after the feature index is built (@Order 1). */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onRatingsChanged(TeamRatingsChangedEvent event) {
+        rebuild();
+    }
+
+    @EventListener
+    public void onProductionModelChanged(ProductionModelChangedEvent event) {
+        rebuild();
+    }
+
+    public List<String> getMetrics() {
+        return METRICS;
+    }
+
+    public StandingsView getStandings(String groupBy) {
+        Standings s = standings;
+        return switch (groupBy) {
+            case "league" -> new StandingsView(s.version, groupBy, Map.of("League", s.league));
+            case "conference" -> new StandingsView(s.version, groupBy, s.byConference);
+            case "division" -> new StandingsView(s.version, groupBy, s.byDivision);
+            default -> throw new IllegalArgumentException("Unknown grouping: " + groupBy);
+        };
+    }
+
+    public LeaderboardView getLeaderboard(String metric, int limit) {
+        Standings s = standings;
+        List<LeaderboardRow> rows = s.leaderboards.get(metric);
+        if (rows == null) throw new IllegalArgumentException("Unknown metric: " + metric);
+        return new LeaderboardView(s.version, metric, rows.subList(0, Math.max(0, Math.min(limit, rows.size()))));
+    }
+
+    public TeamRanking getTeamRanking(Long teamId) {
+        Standings s = standings;
+        StandingRow row = s.byTeam.get(teamId);
+        if (row == null) throw new RuntimeException("Team not found with id " + teamId);
+        return new TeamRanking(s.version, row, s.leaderboardRanks.get(teamId));
+    }
+
+    private synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<Line> lines = new ArrayList<>();
+        for (Team t : teamRepository.findAll()) {
+            double[] features = predictionService.featuresOf(t);
+            lines.add(new Line(t, features, predictionService.teamRating(features)));
+        }
+        lines.sort(StandingsService::compareStandings);
+
+        // Filtering the league order keeps every group sorted too
+        Map<Long, Integer> conferenceRank = new HashMap<>();
+        Map<Long, Integer> divisionRank = new HashMap<>();
+        Map<String, Integer> conferenceSize = new HashMap<>();
+        Map<String, Integer> divisionSize = new HashMap<>();
+        for (Line l : lines) {
+            conferenceRank.put(l.team.getId(), conferenceSize.merge(groupOf(l.team.getConference()), 1, Integer::sum));
+            divisionRank.put(l.team.getId(), divisionSize.merge(groupOf(l.team.getDivision()), 1, Integer::sum));
+        }
+
+        List<StandingRow> league = new ArrayList<>();
+        Map<String, List<StandingRow>> byConference = new TreeMap<>();
+        Map<String, List<StandingRow>> byDivision = new TreeMap<>();
+        Map<Long, StandingRow> byTeam = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Line l = lines.get(i);
+            Team t = l.team;
+            StandingRow row = new StandingRow(t.getId(), t.getName(), t.getConference(), t.getDivision(),
+                    l.gamesPlayed, t.getWins(), t.getLosses(), t.getOvertimeLosses(), t.getPoints(),
+                    l.pointsPercentage, t.getGoalDifferential(), t.getGoalsFor(), l.rating,
+                    i + 1, conferenceRank.get(t.getId()), divisionRank.get(t.getId()));
+            league.add(row);
+            byConference.computeIfAbsent(groupOf(t.getConference()), k -> new ArrayList<>()).add(row);
+            byDivision.computeIfAbsent(groupOf(t.getDivision()), k -> new ArrayList<>()).add(row);
+            byTeam.put(t.getId(), row);
+        }
+
+        Map<String, List<LeaderboardRow>> leaderboards = new HashMap<>();
+        Map<Long, Map<String, Integer>> leaderboardRanks = new HashMap<>();
+        for (Line l : lines) leaderboardRanks.put(l.team.getId(), new LinkedHashMap<>());
+        for (String metric : METRICS) {
+            List<LeaderboardRow> rows = buildLeaderboard(metric, lines);
+            leaderboards.put(metric, Collections.unmodifiableList(rows));
+            for (LeaderboardRow row : rows) leaderboardRanks.get(row.getTeamId()).put(metric, row.getRank());
+        }
+        leaderboardRanks.replaceAll((id, ranks) -> Collections.unmodifiableMap(ranks));
+
+        byConference.replaceAll((k, rows) -> Collections.unmodifiableList(rows));
+        byDivision.replaceAll((k, rows) -> Collections.unmodifiableList(rows));
+        standings = new Standings(standings.version + 1, Collections.unmodifiableList(league),
+                Collections.unmodifiableMap(byConference), Collections.unmodifiableMap(byDivision),
+                byTeam, leaderboards, leaderboardRanks);
+        log.debug("Standings v{} rebuilt for {} teams in {} us.", standings.version, lines.size(),
+                (System.nanoTime() - start) / 1_000);
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent("standings"));
+    }
+
+    /** Sorted best-first; equal values share a rank (1, 2, 2, 4). */
+    private static List<LeaderboardRow> buildLeaderboard(String metric, List<Line> lines) {
+        double[] values = new double[lines.size()];
+        List<Integer> order = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            values[i] = metricValue(metric, lines.get(i));
+            order.add(i);
+        }
+        boolean ascending = LOWER_IS_BETTER.contains(metric);
+        // Ties keep standings order (the list is already sorted that way)
+        order.sort((a, b) -> ascending ? Double.compare(values[a], values[b]) : Double.compare(values[b], values[a]));
+
+        List<LeaderboardRow> rows = new ArrayList<>(order.size());
+        int rank = 0;
+        for (int pos = 0; pos < order.size(); pos++) {
+            int i = order.get(pos);
+            if (pos == 0 || values[i] != values[order.get(pos - 1)]) rank = pos + 1;
+            Team t = lines.get(i).team;
+            rows.add(new LeaderboardRow(rank, t.getId(), t.getName(), values[i]));
+        }
+        return rows;
+    }
+
+    private static double metricValue(String metric, Line l) {
+        return switch (metric) {
+            case RATING -> l.rating;
+            case POINTS -> l.team.getPoints();
+            case POINTS_PERCENTAGE -> l.pointsPercentage;
+            default -> l.features[TeamFeatures.indexOf(metric)];
+        };
+    }
+
+    /** Points, then fewer games played, wins, goal differential, goals for, name. */
+    private static int compareStandings(Line a, Line b) {
+        int c = Integer.compare(b.team.getPoints(), a.team.getPoints());
+        if (c == 0) c = Integer.compare(a.gamesPlayed, b.gamesPlayed);
+        if (c == 0) c = Integer.compare(b.team.getWins(), a.team.getWins());
+        if (c == 0) c = Integer.compare(b.team.getGoalDifferential(), a.team.getGoalDifferential());
+        if (c == 0) c = Integer.compare(b.team.getGoalsFor(), a.team.getGoalsFor());
+        if (c == 0) c = String.valueOf(a.team.getName()).compareTo(String.valueOf(b.team.getName()));
+        return c;
+    }
+
+    private static String groupOf(String name) {
+        return (name == null || name.isBlank()) ? UNASSIGNED : name;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StrengthSolverService - opponent-adjusted team strength (SRS style) from completed games.
+ *
+ * Every completed game of the current season is one row of a sparse least-squares
+ * system: homeGoals - awayGoals = rating[home] - rating[away] + homeIce. The normal
+ * equations are solved with conjugate gradient directly over the game arrays, and
+ * warm-started from the previous solution when new results arrive.
+ *
+ * The output per team is its schedule adjustment: solved rating minus the raw
+ * (home-ice neutral) goal margin per game, i.e. how much its goal differential
+ * should be credited or discounted for the strength of the opponents it faced.
+ */
+@Service
+public class StrengthSolverService {
+
+    private static final Logger log = LoggerFactory.getLogger(StrengthSolverService.class);
+
+    private static final double RIDGE = 1e-3;        // pins the free constant; negligible shrinkage otherwise
+    private static final double TOLERANCE = 1e-10;
+    private static final int MAX_ITERATIONS = 1_000;
+
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // The system: one entry per completed game, teams mapped to dense slots
+    private final Map<Long, Integer> slotByTeam = new HashMap<>();
+    private final Set<Long> includedGames = new HashSet<>();
+    private int[] homeSlot = new int[1024];
+    private int[] awaySlot = new int[1024];
+    private double[] margin = new double[1024];
+    private int gameCount;
+    private int season = -1;
+
+    // Last solution: team ratings by slot, followed by the home-ice term
+    private double[] solution = new double[1];
+
+    private volatile Map<Long, Double> adjustments = Map.of();
+    private volatile double homeIceAdvantage;
+
+    public StrengthSolverService(GameRepository gameRepository, ApplicationEventPublisher eventPublisher) {
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /** Runs before the feature index is built, so it picks up the adjustments. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public synchronized void rebuild() {
+        season = -1;
+        addGames(gameRepository.findCompletedSince(seasonStart(LocalDate.now())));
+    }
+
+    /** Schedule correction for a team in goals per game (0 if it has no completed games). */
+    public double getScheduleAdjustment(Long teamId) {
+        return adjustments.getOrDefault(teamId, 0.0);
+    }
+
+    public double getHomeIceAdvantage() {
+        return homeIceAdvantage;
+    }
+
+    /**
+     * Add newly completed games and re-solve, warm-started from the previous solution.
+     * Games that are unfinished, from another season or already included are ignored.
+     */
+    public synchronized void addGames(Collection<Game> games) {
+        int currentSeason = seasonStart(LocalDate.now()).getYear();
+        if (season != currentSeason) {
+            reset(currentSeason);
+        }
+
+        int added = 0;
+        for (Game g : games) {
+            if (!isCompleted(g) || g.getId() == null || g.getDate() == null) continue;
+            if (g.getDate().isBefore(seasonStart(LocalDate.now())) || !includedGames.add(g.getId())) continue;
+
+            ensureCapacity(gameCount + 1);
+            homeSlot[gameCount] = slotOf(g.getHomeTeam().getId());
+            awaySlot[gameCount] = slotOf(g.getAwayTeam().getId());
+            margin[gameCount] = g.getHomeTeamGoals() - g.getAwayTeamGoals();
+            gameCount++;
+            added++;
+        }
+
+        if (added > 0) {
+            long start = System.nanoTime();
+            int iterations = solve();
+            publish();
+            log.info("Strength solve: {} games, {} teams, {} CG iterations in {} us (home ice {} goals).",
+                    gameCount, slotByTeam.size(), iterations, (System.nanoTime() - start) / 1_000,
+                    String.format("%.3f", homeIceAdvantage));
+        }
+    }
+
+    private void reset(int newSeason) {
+        season = newSeason;
+        slotByTeam.clear();
+        includedGames.clear();
+        gameCount = 0;
+        solution = new double[1];
+        adjustments = Map.of();
+        homeIceAdvantage = 0.0;
+    }
+
+    /** Conjugate gradient on (A^T A + ridge I) x = A^T m, starting from the previous solution. */
+    private int solve() {
+        int teams = slotByTeam.size();
+        int dim = teams + 1;
+        int hfa = teams;
+
+        // Warm start: keep known ratings, new teams start at 0, home-ice term moves to the end
+        double[] x = new double[dim];
+        int known = solution.length - 1;
+        System.arraycopy(solution, 0, x, 0, Math.min(known, teams));
+        x[hfa] = solution[known];
+
+        double[] b = new double[dim];
+        for (int e = 0; e < gameCount; e++) {
+            b[homeSlot[e]] += margin[e];
+            b[awaySlot[e]] -= margin[e];
+            b[hfa] += margin[e];
+        }
+
+        double[] r = new double[dim];
+        double[] p = new double[dim];
+        double[] ap = new double[dim];
+
+        multiply(x, r, hfa);
+        for (int i = 0; i < dim; i++) {
+            r[i] = b[i] - r[i];
+            p[i] = r[i];
+        }
+        double rs = dot(r, r);
+        double threshold = TOLERANCE * Math.max(1.0, dot(b, b));
+
+        int iterations = 0;
+        while (rs > threshold && iterations < MAX_ITERATIONS) {
+            multiply(p, ap, hfa);
+            double alpha = rs / dot(p, ap);
+            for (int i = 0; i < dim; i++) {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * ap[i];
+            }
+            double rsNew = dot(r, r);
+            double beta = rsNew / rs;
+            for (int i = 0; i < dim; i++) {
+                p[i] = r[i] + beta * p[i];
+            }
+            rs = rsNew;
+            iterations++;
+        }
+
+        solution = x;
+        return iterations;
+    }
+
+    /** out = (A^T A + ridge I) v, applied game by game without materializing the matrix. */
+    private void multiply(double[] v, double[] out, int hfa) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = RIDGE * v[i];
+        }
+        for (int e = 0; e < gameCount; e++) {
+            int h = homeSlot[e];
+            int a = awaySlot[e];
+            double row = v[h] - v[a] + v[hfa];
+            out[h] += row;
+            out[a] -= row;
+            out[hfa] += row;
+        }
+    }
+
+    /** Turn the solution into per-team schedule adjustments, swap them in and announce the teams that moved. */
+    private void publish() {
+        int teams = slotByTeam.size();
+        double hfa = solution[teams];
+        double[] marginSum = new double[teams];
+        int[] games = new int[teams];
+        int[] homeMinusAway = new int[teams];
+        for (int e = 0; e < gameCount; e++) {
+            marginSum[homeSlot[e]] += margin[e];
+            marginSum[awaySlot[e]] -= margin[e];
+            games[homeSlot[e]]++;
+            games[awaySlot[e]]++;
+            homeMinusAway[homeSlot[e]]++;
+            homeMinusAway[awaySlot[e]]--;
+        }
+
+        Map<Long, Double> fresh = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : slotByTeam.entrySet()) {
+            int s = entry.getValue();
+            if (games[s] == 0) continue;
+            double rawMargin = (marginSum[s] - hfa * homeMinusAway[s]) / games[s];
+            fresh.put(entry.getKey(), solution[s] - rawMargin);
+        }
+        Map<Long, Double> previous = adjustments;
+        adjustments = Map.copyOf(fresh);
+        homeIceAdvantage = hfa;
+
+        Set<Long> moved = new HashSet<>();
+        fresh.forEach((teamId, adjustment) -> {
+            if (!adjustment.equals(previous.get(teamId))) moved.add(teamId);
+        });
+        if (!moved.isEmpty()) {
+            eventPublisher.publishEvent(new TeamRatingsChangedEvent(moved));
+        }
+    }
+
+    private int slotOf(Long teamId) {
+        return slotByTeam.computeIfAbsent(teamId, id -> slotByTeam.size());
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= homeSlot.length) return;
+        int size = Math.max(needed, homeSlot.length * 2);
+        homeSlot = Arrays.copyOf(homeSlot, size);
+        awaySlot = Arrays.copyOf(awaySlot, size);
+        margin = Arrays.copyOf(margin, size);
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /** Hockey games can't end 0-0, so any score means the result is in. */
+    private static boolean isCompleted(Game g) {
+        return g.getHomeTeam() != null && g.getAwayTeam() != null
+                && (g.getHomeTeamGoals() > 0 || g.getAwayTeamGoals() > 0);
+    }
+
+    /** Season runs July -> next June */
+    private static LocalDate seasonStart(LocalDate date) {
+        return Game.seasonStart(Game.seasonOf(date));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * TeamFeatureIndex - in-memory lookup of every team's feature vector by id or name.
+ *
+ * The whole index is an immutable value swapped in atomically on refresh, so
+ * readers never need the database or a lock. Seeded from the team-stats snapshot
+ * at startup, rebuilt from the Team table once JPA is ready, then patched for just
+ * the teams named in each TeamRatingsChangedEvent.
+ */
+@Service
+public class TeamFeatureIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamFeatureIndex.class);
+
+    /** One indexed team. The features array is shared; never modify it (clone first). */
+    public static class Entry {
+        private final long id;
+        private final String name;
+        private final double[] features;
+
+        Entry(long id, String name, double[] features) {
+            this.id = id;
+            this.name = name;
+            this.features = features;
+        }
+
+        public long getId() { return id; }
+        public String getName() { return name; }
+        public double[] getFeatures() { return features; }
+    }
+
+    private static class Index {
+        final List<Entry> entries;
+        final Map<Long, Entry> byId = new HashMap<>();
+        final Map<String, Entry> byName = new HashMap<>();
+
+        Index(List<Entry> entries) {
+            this.entries = Collections.unmodifiableList(entries);
+            for (Entry e : entries) {
+                byId.put(e.getId(), e);
+                if (e.getName() != null) byName.put(e.getName().toLowerCase(Locale.ROOT), e);
+            }
+        }
+    }
+
+    private final TeamRepository teamRepository;
+    private final StrengthSolverService strengthSolverService;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Index index = new Index(new ArrayList<>());
+
+    public TeamFeatureIndex(TeamRepository teamRepository, TeamSnapshotService teamSnapshotService,
+                            StrengthSolverService strengthSolverService, ApplicationEventPublisher eventPublisher) {
+        this.teamRepository = teamRepository;
+        this.strengthSolverService = strengthSolverService;
+        this.eventPublisher = eventPublisher;
+        // Serve from the snapshot until the database has been read
+        teamSnapshotService.getLatestSnapshot().ifPresent(this::loadSnapshot);
+    }
+
+    /** Runs after the strength solver's startup solve (@Order 0). */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public synchronized void refresh() {
+        List<Entry> entries = new ArrayList<>();
+        for (Team t : teamRepository.findAll()) {
+            double scheduleAdjustment = strengthSolverService.getScheduleAdjustment(t.getId());
+            entries.add(new Entry(t.getId(), t.getName(), TeamFeatures.fromTeam(t, scheduleAdjustment)));
+        }
+        index = new Index(entries);
+        log.debug("Team feature index rebuilt with {} teams.", entries.size());
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent("teamFeatures"));
+    }
+
+    /** Re-read only the affected teams; everything else is carried over as-is. */
+    @EventListener
+    public synchronized void onRatingsChanged(TeamRatingsChangedEvent event) {
+        Map<Long, Entry> updated = new LinkedHashMap<>();
+        for (Entry e : index.entries) {
+            if (!event.getTeamIds().contains(e.getId())) updated.put(e.getId(), e);
+        }
+        for (Team t : teamRepository.findAllById(event.getTeamIds())) {
+            double scheduleAdjustment = strengthSolverService.getScheduleAdjustment(t.getId());
+            updated.put(t.getId(), new Entry(t.getId(), t.getName(), TeamFeatures.fromTeam(t, scheduleAdjustment)));
+        }
+        index = new Index(new ArrayList<>(updated.values()));
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent("teamFeatures"));
+    }
+
+    private void loadSnapshot(TeamStatsSnapshot snapshot) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < snapshot.getTeamCount(); i++) {
+            double[] features = snapshot.getFeatures(i);
+            // The snapshot carries today's schedule context; index entries hold only the season
+            Arrays.fill(features, TeamFeatures.SEASON_COUNT, TeamFeatures.COUNT, 0.0);
+            entries.add(new Entry(snapshot.getTeamId(i), snapshot.getTeamName(i), features));
+        }
+        index = new Index(entries);
+    }
+
+    public List<Entry> getAll() {
+        return index.entries;
+    }
+
+    public Entry getById(long id) {
+        return index.byId.get(id);
+    }
+
+    /**
+     * Resolve a team reference: a numeric id, the exact (case-insensitive) name,
+     * or failing that a unique name fragment such as "Bruins".
+     */
+    public Entry resolve(String ref) {
+        if (ref == null || ref.isBlank()) return null;
+        Index current = index;
+        String key = ref.trim();
+
+        if (key.chars().allMatch(Character::isDigit)) {
+            try {
+                return current.byId.get(Long.parseLong(key));
+            } catch (NumberFormatException e) {
+                return null; // too long for an id; throwing would abort a whole batch
+            }
+        }
+
+        String lower = key.toLowerCase(Locale.ROOT);
+        Entry exact = current.byName.get(lower);
+        if (exact != null) return exact;
+
+        Entry match = null;
+        for (Entry e : current.entries) {
+            if (e.getName() != null && e.getName().toLowerCase(Locale.ROOT).contains(lower)) {
+                if (match != null) return null; // ambiguous
+                match = e;
+            }
+        }
+        return match;
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.HockeyPredictor.service;
 
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
 import com.example.HockeyPredictor.model.Team;
 import com.example.HockeyPredictor.repository.TeamRepository;
+import com.example.HockeyPredictor.util.TeamFingerprint;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TeamService {
@@ -14,6 +20,9 @@ public class TeamService {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
     }
@@ -23,30 +32,72 @@ public class TeamService {
     }
 
     public Team createTeam(Team team) {
-        return teamRepository.save(team);
+        team.setStatsFingerprint(TeamFingerprint.of(team));
+        Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamRatingsChangedEvent(Set.of(saved.getId())));
+        return saved;
     }
 
     public Team updateTeam(Long id, Team updatedTeam) {
-        return teamRepository.findById(id)
+        Team saved = teamRepository.findById(id)
                 .map(team -> {
                     team.setName(updatedTeam.getName());
+                    team.setConference(updatedTeam.getConference());
+                    team.setDivision(updatedTeam.getDivision());
                     team.setWins(updatedTeam.getWins());
                     team.setLosses(updatedTeam.getLosses());
                     team.setOvertimeLosses(updatedTeam.getOvertimeLosses());
+                    team.setPoints(updatedTeam.getPoints());
                     team.setGoalsFor(updatedTeam.getGoalsFor());
                     team.setGoalsAgainst(updatedTeam.getGoalsAgainst());
                     team.setGoalDifferential(updatedTeam.getGoalDifferential());
-                    team.setCorsiFor(updatedTeam.getCorsiFor());
-                    team.setFenwickFor(updatedTeam.getFenwickFor());
                     team.setShotsFor(updatedTeam.getShotsFor());
+                    team.setShotsAgainst(updatedTeam.getShotsAgainst());
                     team.setHits(updatedTeam.getHits());
+                    team.setPowerplays(updatedTeam.getPowerplays());
+                    team.setPenalties(updatedTeam.getPenalties());
+                    team.setPowerplayPercentage(updatedTeam.getPowerplayPercentage());
+                    team.setPenaltyKillPercentage(updatedTeam.getPenaltyKillPercentage());
+                    team.setSavePercentage(updatedTeam.getSavePercentage());
                     team.setGiveaways(updatedTeam.getGiveaways());
                     team.setTakeaways(updatedTeam.getTakeaways());
+                    team.setCorsiFor(updatedTeam.getCorsiFor());
+                    team.setFenwickFor(updatedTeam.getFenwickFor());
+                    team.setCorsiAgainst(updatedTeam.getCorsiAgainst());
+                    team.setFenwickAgainst(updatedTeam.getFenwickAgainst());
+                    team.setOpponentsCorsiFor(updatedTeam.getOpponentsCorsiFor());
+                    team.setOpponentsFenwickFor(updatedTeam.getOpponentsFenwickFor());
+                    team.setStatsFingerprint(TeamFingerprint.of(team));
                     return teamRepository.save(team);
                 }).orElseThrow(() -> new RuntimeException("Team not found with id " + id));
+        eventPublisher.publishEvent(new TeamRatingsChangedEvent(Set.of(id)));
+        return saved;
     }
 
     public void deleteTeam(Long id) {
         teamRepository.deleteById(id);
+        eventPublisher.publishEvent(new TeamRatingsChangedEvent(Set.of(id)));
+    }
+
+    /**
+     * Save freshly ingested teams, skipping any whose stats fingerprint matches
+     * what is already stored. Changed teams are written in one batched transaction
+     * (saveAll), followed by a single TeamRatingsChangedEvent for just those teams.
+     * Returns the teams that were written.
+     */
+    public List<Team> saveChangedTeams(List<Team> teams) {
+        List<Team> changed = new ArrayList<>();
+        for (Team team : teams) {
+            long fingerprint = TeamFingerprint.of(team);
+            if (team.getId() != null && Long.valueOf(fingerprint).equals(team.getStatsFingerprint())) continue;
+            team.setStatsFingerprint(fingerprint);
+            changed.add(team);
+        }
+        if (changed.isEmpty()) return changed;
+
+        List<Team> saved = teamRepository.saveAll(changed);
+        Set<Long> ids = saved.stream().map(Team::getId).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new TeamRatingsChangedEvent(ids));
+        return saved;
     }
 }
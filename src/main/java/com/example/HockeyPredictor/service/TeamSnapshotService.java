@@ -0,0 +1,148 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
+import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import com.example.HockeyPredictor.util.TeamSnapshotFile;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * TeamSnapshotService - keeps a binary snapshot of every team's feature vector
+ * and the day's matchups on disk (see TeamSnapshotFile).
+ *
+ * The snapshot is memory-mapped at startup, so /api/predict can be answered while
+ * JPA is still bootstrapping in the background, or if the H2 file is unusable.
+ */
+@Service
+public class TeamSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamSnapshotService.class);
+
+    private final TeamRepository teamRepository;
+    private final GameRepository gameRepository;
+    private final StrengthSolverService strengthSolverService;
+    private final ScheduleContextIndex scheduleContextIndex;
+    private final Path snapshotPath;
+
+    private volatile TeamStatsSnapshot snapshot;
+    private volatile boolean databaseReady;
+
+    public TeamSnapshotService(TeamRepository teamRepository, GameRepository gameRepository,
+                               StrengthSolverService strengthSolverService, ScheduleContextIndex scheduleContextIndex,
+                               @Value("${hockeypredictor.snapshot.path:data/team-stats.snapshot}") String snapshotPath) {
+        this.teamRepository = teamRepository;
+        this.gameRepository = gameRepository;
+        this.strengthSolverService = strengthSolverService;
+        this.scheduleContextIndex = scheduleContextIndex;
+        this.snapshotPath = Path.of(snapshotPath);
+    }
+
+    @PostConstruct
+    void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("No team-stats snapshot at {}; predictions will wait for the database.", snapshotPath);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            snapshot = TeamSnapshotFile.read(snapshotPath);
+            log.info("Loaded team-stats snapshot ({} teams, {} games for {}) in {} us.",
+                    snapshot.getTeamCount(), snapshot.getGameCount(), snapshot.getScheduleDate(),
+                    (System.nanoTime() - start) / 1_000);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable team-stats snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        databaseReady = true;
+    }
+
+    /** False while JPA is still bootstrapping (repositories use deferred bootstrap mode). */
+    public boolean isDatabaseReady() {
+        return databaseReady;
+    }
+
+    /** The loaded snapshot, if it holds the schedule for the given date. */
+    public Optional<TeamStatsSnapshot> getSnapshotFor(LocalDate date) {
+        TeamStatsSnapshot current = snapshot;
+        if (current == null || !current.getScheduleDate().equals(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    /** The loaded snapshot regardless of its schedule date. */
+    public Optional<TeamStatsSnapshot> getLatestSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /** Capture all teams and today's games from the database and write a fresh snapshot. */
+    public void writeSnapshot() {
+        LocalDate today = LocalDate.now();
+        try {
+            List<Team> teams = teamRepository.findAll();
+            List<Game> games = gameRepository.findByDate(today);
+
+            long[] teamIds = new long[teams.size()];
+            String[] teamNames = new String[teams.size()];
+            double[][] features = new double[teams.size()][];
+            Map<Long, Integer> indexById = new HashMap<>();
+            for (int i = 0; i < teams.size(); i++) {
+                Team t = teams.get(i);
+                teamIds[i] = t.getId();
+                teamNames[i] = t.getName();
+                features[i] = TeamFeatures.fromTeam(t, strengthSolverService.getScheduleAdjustment(t.getId()));
+                indexById.put(t.getId(), i);
+            }
+
+            List<long[]> rows = new ArrayList<>();
+            for (Game g : games) {
+                if (g.getHomeTeam() == null || g.getAwayTeam() == null) continue;
+                Integer home = indexById.get(g.getHomeTeam().getId());
+                Integer away = indexById.get(g.getAwayTeam().getId());
+                if (home == null || away == null) continue;
+                // A team plays once a day, so its vector can carry that game's schedule context
+                scheduleContextIndex.fill(features[home], teamIds[home], today, teamIds[home]);
+                scheduleContextIndex.fill(features[away], teamIds[away], today, teamIds[home]);
+                rows.add(new long[] {g.getId(), home, away});
+            }
+            long[] gameIds = new long[rows.size()];
+            int[] homeIndex = new int[rows.size()];
+            int[] awayIndex = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                gameIds[i] = rows.get(i)[0];
+                homeIndex[i] = (int) rows.get(i)[1];
+                awayIndex[i] = (int) rows.get(i)[2];
+            }
+
+            TeamStatsSnapshot fresh = new TeamStatsSnapshot(System.currentTimeMillis(), today,
+                    teamIds, teamNames, features, gameIds, homeIndex, awayIndex);
+            TeamSnapshotFile.write(snapshotPath, fresh);
+            snapshot = fresh;
+            log.info("Wrote team-stats snapshot ({} teams, {} games) to {}.", teamIds.length, gameIds.length, snapshotPath);
+        } catch (Exception e) {
+            log.error("Failed to write team-stats snapshot: ", e);
+        }
+    }
+}
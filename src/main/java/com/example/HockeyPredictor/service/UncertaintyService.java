@@ -0,0 +1,190 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.model.TeamFeatures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * UncertaintyService - bootstrap intervals for a slate's home win probabilities.
+ *
+ * Only season totals are stored, so each replicate re-draws every team's season from
+ * them: its games' results (W / L / OTL) are resampled from its record, count stats
+ * get Poisson noise, and save / special-teams percentages binomial noise on the chances
+ * behind them. Ratings and probabilities are then recomputed with the production model.
+ * All games in a replicate share the same resampled teams.
+ *
+ * Replicates are cut into a fixed number of streams, each with its own SplittableRandom
+ * split from a fixed seed, and the streams run on the common pool with preallocated feature
+ * buffers, each writing its own range of one shared sample array. Which replicate draws from
+ * which stream doesn't depend on the core count, so a run that finishes gives the same
+ * intervals for the same data on any machine. Streams stop early if the slate runs over the
+ * time budget; intervals from a cut run depend on timing and aren't reproducible.
+ */
+@Service
+public class UncertaintyService {
+
+    private static final Logger log = LoggerFactory.getLogger(UncertaintyService.class);
+
+    private static final double GOAL_DIFF_VARIANCE_PER_GAME = 6.0;   // ~3 goals a side, Poisson
+    private static final double SPECIAL_TEAMS_CHANCES_PER_GAME = 3.0; // power plays / penalty kills
+    private static final int MIN_SAMPLES = 200;
+    private static final int STREAMS = 64;
+    private static final int DEADLINE_CHECK_EVERY = 8;
+
+    // Count stats: a season total T gets Poisson noise, sd = sqrt(T)
+    private static final int[] COUNT_FEATURES = {
+            TeamFeatures.SHOTS_FOR, TeamFeatures.SHOTS_AGAINST, TeamFeatures.CORSI_FOR, TeamFeatures.CORSI_AGAINST,
+            TeamFeatures.FENWICK_FOR, TeamFeatures.FENWICK_AGAINST, TeamFeatures.HITS, TeamFeatures.PENALTIES,
+            TeamFeatures.TAKEAWAYS, TeamFeatures.GIVEAWAYS};
+
+    /** Home win probability quantiles per game, indexed by the Q_* constants. */
+    public static final int Q_025 = 0;
+    public static final int Q_10 = 1;
+    public static final int Q_90 = 2;
+    public static final int Q_975 = 3;
+    private static final double[] QUANTILES = {0.025, 0.10, 0.90, 0.975};
+
+    private final RatingModelRegistry ratingModelRegistry;
+    private final int iterations;
+    private final long budgetNanos;
+    private final long seed;
+
+    public UncertaintyService(RatingModelRegistry ratingModelRegistry,
+                              @Value("${hockeypredictor.uncertainty.iterations:2000}") int iterations,
+                              @Value("${hockeypredictor.uncertainty.budget-ms:200}") long budgetMs,
+                              @Value("${hockeypredictor.uncertainty.seed:20251019}") long seed) {
+        this.ratingModelRegistry = ratingModelRegistry;
+        this.iterations = iterations;
+        this.budgetNanos = budgetMs * 1_000_000L;
+        this.seed = seed;
+    }
+
+    /**
+     * Bootstrap quantiles of the home win probability for each game. Teams are given once
+     * (teamFeatures) and games reference them by index. Returns null when disabled or when
+     * too few replicates finished within the budget.
+     */
+    public double[][] homeWinQuantiles(double[][] teamFeatures, int[] homeTeam, int[] awayTeam) {
+        int games = homeTeam.length;
+        if (iterations <= 0 || games == 0) return null;
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        RatingModel model = ratingModelRegistry.getProduction();
+
+        int streams = Math.min(STREAMS, iterations);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[streams];
+        for (int s = 0; s < streams; s++) randoms[s] = root.split();
+
+        // samples[g * iterations + i]: replicate i's home win probability for game g
+        double[] samples = new double[games * iterations];
+        int[] completed = new int[streams];
+
+        IntStream.range(0, streams).parallel().forEach(s -> {
+            int from = (int) ((long) iterations * s / streams);
+            int to = (int) ((long) iterations * (s + 1) / streams);
+            SplittableRandom random = randoms[s];
+            double[][] resampled = new double[teamFeatures.length][TeamFeatures.COUNT];
+
+            int i = from;
+            for (; i < to; i++) {
+                if ((i - from) % DEADLINE_CHECK_EVERY == 0 && System.nanoTime() > deadline) break;
+                for (int t = 0; t < teamFeatures.length; t++) {
+                    resample(teamFeatures[t], resampled[t], random);
+                }
+                for (int g = 0; g < games; g++) {
+                    samples[g * iterations + i] =
+                            model.homeWinProbability(resampled[homeTeam[g]], resampled[awayTeam[g]], false);
+                }
+            }
+            completed[s] = i - from;
+        });
+
+        int total = Arrays.stream(completed).sum();
+        if (total < MIN_SAMPLES) {
+            log.warn("Bootstrap finished {} of {} replicates within {} ms; no intervals.",
+                    total, iterations, budgetNanos / 1_000_000);
+            return null;
+        }
+        if (total < iterations) {
+            log.info("Bootstrap cut at {} of {} replicates by the {} ms budget; intervals aren't reproducible.",
+                    total, iterations, budgetNanos / 1_000_000);
+        }
+
+        double[][] quantiles = new double[games][QUANTILES.length];
+        double[] sorted = new double[total];
+        for (int g = 0; g < games; g++) {
+            int n = 0;
+            for (int s = 0; s < streams; s++) {
+                int from = (int) ((long) iterations * s / streams);
+                System.arraycopy(samples, g * iterations + from, sorted, n, completed[s]);
+                n += completed[s];
+            }
+            Arrays.sort(sorted);
+            for (int q = 0; q < QUANTILES.length; q++) {
+                quantiles[g][q] = quantile(sorted, QUANTILES[q]);
+            }
+        }
+
+        log.debug("Bootstrap: {} games, {} teams, {} replicates in {} streams in {} us.",
+                games, teamFeatures.length, total, streams, (System.nanoTime() - start) / 1_000);
+        return quantiles;
+    }
+
+    /** One bootstrap draw of a team's season into out (no allocation). */
+    private static void resample(double[] base, double[] out, SplittableRandom random) {
+        System.arraycopy(base, 0, out, 0, TeamFeatures.COUNT);
+        int wins = (int) base[TeamFeatures.WINS];
+        int losses = (int) base[TeamFeatures.LOSSES];
+        int gamesPlayed = wins + losses + (int) base[TeamFeatures.OVERTIME_LOSSES];
+        if (gamesPlayed == 0) return;
+
+        // Re-draw every game's result from the team's record
+        int w = 0, l = 0, otl = 0;
+        for (int g = 0; g < gamesPlayed; g++) {
+            int r = random.nextInt(gamesPlayed);
+            if (r < wins) w++;
+            else if (r < wins + losses) l++;
+            else otl++;
+        }
+        out[TeamFeatures.WINS] = w;
+        out[TeamFeatures.LOSSES] = l;
+        out[TeamFeatures.OVERTIME_LOSSES] = otl;
+
+        for (int f : COUNT_FEATURES) {
+            out[f] = Math.max(0.0, base[f] + Math.sqrt(base[f]) * random.nextGaussian());
+        }
+        out[TeamFeatures.GOAL_DIFFERENTIAL] = base[TeamFeatures.GOAL_DIFFERENTIAL]
+                + Math.sqrt(gamesPlayed * GOAL_DIFF_VARIANCE_PER_GAME) * random.nextGaussian();
+
+        // Save percentage is a fraction of shots against; special teams are percentages of their chances
+        out[TeamFeatures.SAVE_PERCENTAGE] = binomialNoise(base[TeamFeatures.SAVE_PERCENTAGE], 1.0,
+                base[TeamFeatures.SHOTS_AGAINST], random);
+        double chances = gamesPlayed * SPECIAL_TEAMS_CHANCES_PER_GAME;
+        out[TeamFeatures.POWERPLAY_PERCENTAGE] = binomialNoise(base[TeamFeatures.POWERPLAY_PERCENTAGE], 100.0, chances, random);
+        out[TeamFeatures.PENALTY_KILL_PERCENTAGE] = binomialNoise(base[TeamFeatures.PENALTY_KILL_PERCENTAGE], 100.0, chances, random);
+    }
+
+    /** A rate observed over n trials (scale 1 for fractions, 100 for percentages), with binomial noise. */
+    private static double binomialNoise(double value, double scale, double trials, SplittableRandom random) {
+        if (trials < 1) return value;
+        double p = Math.max(0.0, Math.min(1.0, value / scale));
+        double sample = p + Math.sqrt(p * (1 - p) / trials) * random.nextGaussian();
+        return Math.max(0.0, Math.min(1.0, sample)) * scale;
+    }
+
+    /** Linear interpolation between the closest ranks. */
+    private static double quantile(double[] sorted, double q) {
+        double pos = q * (sorted.length - 1);
+        int lo = (int) Math.floor(pos);
+        int hi = Math.min(lo + 1, sorted.length - 1);
+        return sorted[lo] + (pos - lo) * (sorted[hi] - sorted[lo]);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.model.RatingWeights;
+import com.example.HockeyPredictor.model.TeamFeatures;
+
+/**
+ * The weighted-category model: per-game rates of each stat category, normalized to a
+ * hockey scale, blended with configurable weights and damped early in the season.
+ * A rating difference is turned into a probability with a logistic curve.
+ */
+public class WeightedRatingModel implements RatingModel {
+
+    private final String name;
+    private final String version;
+
+    // Copied out of RatingWeights so the model is immutable
+    private final double winPctWeight;
+    private final double goalDiffWeight;
+    private final double savePctWeight;
+    private final double specialTeamsWeight;
+    private final double shotsForWeight;
+    private final double shotsAgainstWeight;
+    private final double corsiDiffWeight;
+    private final double fenwickDiffWeight;
+    private final double hitsPenWeight;
+    private final double turnoversWeight;
+    private final double restWeight;
+    private final double backToBackWeight;
+    private final double recentGamesWeight;
+    private final double travelWeight;
+    private final double homeAdvantage;
+    private final double logisticK;
+
+    public WeightedRatingModel(String name, String version, RatingWeights w) {
+        this.name = name;
+        this.version = version;
+        this.winPctWeight = w.getWinPct();
+        this.goalDiffWeight = w.getGoalDiff();
+        this.savePctWeight = w.getSavePct();
+        this.specialTeamsWeight = w.getSpecialTeams();
+        this.shotsForWeight = w.getShotsFor();
+        this.shotsAgainstWeight = w.getShotsAgainst();
+        this.corsiDiffWeight = w.getCorsiDiff();
+        this.fenwickDiffWeight = w.getFenwickDiff();
+        this.hitsPenWeight = w.getHitsPen();
+        this.turnoversWeight = w.getTurnovers();
+        this.restWeight = w.getRest();
+        this.backToBackWeight = w.getBackToBack();
+        this.recentGamesWeight = w.getRecentGames();
+        this.travelWeight = w.getTravel();
+        this.homeAdvantage = w.getHomeAdvantage();
+        this.logisticK = w.getLogisticK();
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    @Override
+    public String getVersion() { return version; }
+
+    @Override
+    public double rating(double[] f, boolean isHome) {
+        int wins = (int) f[TeamFeatures.WINS];
+        int gamesPlayedRaw = wins + (int) f[TeamFeatures.LOSSES] + (int) f[TeamFeatures.OVERTIME_LOSSES];
+        int gamesPlayed = Math.max(1, gamesPlayedRaw);
+        double averageGoalDiff = 0.6;
+        double averageSavePct = 0.900;
+        double averageShots = 35.0;
+        double magnitudeScaler = 10.0;
+        double halfMagnitudeScaler = 5.0;
+
+        // Per-game metrics to stabilize early in season; goal differential is credited for strength of schedule
+        double goalsPerGameDiff = f[TeamFeatures.GOAL_DIFFERENTIAL] / gamesPlayed + f[TeamFeatures.SCHEDULE_ADJUSTMENT];
+        double shotsForPerGame = f[TeamFeatures.SHOTS_FOR] / gamesPlayed;
+        double shotsAgainstPerGame = f[TeamFeatures.SHOTS_AGAINST] / gamesPlayed;
+        double corsiDiffPerGame = (f[TeamFeatures.CORSI_FOR] - f[TeamFeatures.CORSI_AGAINST]) / gamesPlayed;
+        double fenwickDiffPerGame = (f[TeamFeatures.FENWICK_FOR] - f[TeamFeatures.FENWICK_AGAINST]) / gamesPlayed;
+        double hitsPerGame = f[TeamFeatures.HITS] / gamesPlayed;
+        double penaltiesPerGame = f[TeamFeatures.PENALTIES] / gamesPlayed;
+        double turnoversPerGame = (f[TeamFeatures.TAKEAWAYS] - f[TeamFeatures.GIVEAWAYS]) / gamesPlayed;
+
+        // Normalize to approximate real hockey scale
+        double winPct = safeRatio(wins, gamesPlayedRaw);
+        double goalDiff = goalsPerGameDiff / averageGoalDiff;
+        double savePct = (f[TeamFeatures.SAVE_PERCENTAGE] - averageSavePct) / 0.04;
+        double specialTeams = ((f[TeamFeatures.POWERPLAY_PERCENTAGE] + f[TeamFeatures.PENALTY_KILL_PERCENTAGE]) / 2.0) / 100.0;
+        double shotsFor = shotsForPerGame / averageShots;
+        double shotsAgainst = ((1.5 * averageShots) - shotsAgainstPerGame) / averageShots; // Get 'half-points' at average
+        double corsiDiff = corsiDiffPerGame / magnitudeScaler;
+        double fenwickDiff = fenwickDiffPerGame / magnitudeScaler;
+        double hitsPen = (hitsPerGame / (penaltiesPerGame + 1.0)) / halfMagnitudeScaler;
+        double turnovers = turnoversPerGame / magnitudeScaler;
+
+        double rating =
+                winPctWeight * winPct +
+                goalDiffWeight * goalDiff +
+                savePctWeight * savePct +
+                specialTeamsWeight * specialTeams +
+                shotsForWeight * shotsFor +
+                shotsAgainstWeight * shotsAgainst +
+                corsiDiffWeight * corsiDiff +
+                fenwickDiffWeight * fenwickDiff +
+                hitsPenWeight * hitsPen +
+                turnoversWeight * turnovers;
+
+        if (isHome) rating += homeAdvantage;
+
+        double progressionFactor = Math.min(1.0, (1 + (gamesPlayed / 10)) / 3.0); // full weight after 30 games, avoid early overreactions
+        rating *= progressionFactor;
+
+        // Schedule context describes this game, not the season, so it isn't damped (all 0 when unknown)
+        double daysSinceLastGame = f[TeamFeatures.DAYS_SINCE_LAST_GAME];
+        double rest = daysSinceLastGame == 0 ? 0.0 : Math.min(daysSinceLastGame, 3.0) - 2.0; // -1 back-to-back .. +1 two days off
+        double recentLoad = Math.max(0.0, f[TeamFeatures.GAMES_LAST_7_DAYS] - 3.0);
+        rating += restWeight * rest
+                - backToBackWeight * f[TeamFeatures.BACK_TO_BACK]
+                - recentGamesWeight * recentLoad
+                - travelWeight * f[TeamFeatures.TRAVELLED];
+
+        // Keep rating in sensible range
+        return Math.max(-2, Math.min(2, rating));
+    }
+
+    @Override
+    public double probability(double ratingDiff) {
+        return 1.0 / (1.0 + Math.exp(-logisticK * ratingDiff));
+    }
+
+    private static double safeRatio(int num, int denom) {
+        return denom == 0 ? 0.5 : (double) num / denom;
+    }
+}
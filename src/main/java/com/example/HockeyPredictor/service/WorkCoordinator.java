@@ -0,0 +1,300 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.WorkItem;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import com.example.HockeyPredictor.repository.WorkItemRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * WorkCoordinator - splits an ingest into work items (one per team, one per schedule date)
+ * and lets every running instance pull them from the shared database.
+ *
+ * An item is claimed by writing a lease through the entity's @Version, so two instances
+ * racing for the same row can't both win. The owner renews its leases on a heartbeat; an
+ * item whose lease runs out (the owner crashed or stalled) becomes claimable again.
+ * Each instance also watches for items finished by its peers and then reloads its own
+ * in-memory state (strength solve, feature index, response cache, snapshot).
+ *
+ * Disabled unless hockeypredictor.work.enabled=true; a single instance ingests directly.
+ */
+@Service
+public class WorkCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkCoordinator.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final WorkItemRepository workItemRepository;
+    private final TeamRepository teamRepository;
+    private final SportsRadarService sportsRadarService;
+    private final StrengthSolverService strengthSolverService;
+    private final TeamSnapshotService teamSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String instanceId;
+    private final Duration leaseDuration;
+    private final int batchSize;
+
+    private Instant lastPeerCompletion;
+    private boolean peersChecked;
+
+    public WorkCoordinator(WorkItemRepository workItemRepository, TeamRepository teamRepository,
+                           SportsRadarService sportsRadarService, StrengthSolverService strengthSolverService,
+                           TeamSnapshotService teamSnapshotService, ApplicationEventPublisher eventPublisher,
+                           ObjectMapper objectMapper,
+                           @Value("${hockeypredictor.work.enabled:false}") boolean enabled,
+                           @Value("${hockeypredictor.work.instance-id:}") String instanceId,
+                           @Value("${hockeypredictor.work.lease-ms:30000}") long leaseMs,
+                           @Value("${hockeypredictor.work.batch-size:8}") int batchSize) {
+        this.workItemRepository = workItemRepository;
+        this.teamRepository = teamRepository;
+        this.sportsRadarService = sportsRadarService;
+        this.strengthSolverService = strengthSolverService;
+        this.teamSnapshotService = teamSnapshotService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.instanceId = instanceId.isBlank()
+                ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : instanceId;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /** Queue a full update: every league team, plus yesterday's results and today's schedule. */
+    public int enqueueFullUpdate() throws Exception {
+        int queued = 0;
+        for (JsonNode tnode : sportsRadarService.fetchLeagueTeams()) {
+            String teamId = tnode.path("id").asText(null);
+            if (teamId == null) continue;
+            if (enqueue(WorkItem.Type.TEAM_STATS, "team:" + teamId, tnode.toString())) queued++;
+        }
+        LocalDate today = LocalDate.now();
+        if (enqueueSchedule(today.minusDays(1))) queued++;
+        if (enqueueSchedule(today)) queued++;
+        log.info("Queued {} work items for a full update.", queued);
+        return queued;
+    }
+
+    public boolean enqueueSchedule(LocalDate date) {
+        return enqueue(WorkItem.Type.SCHEDULE, "schedule:" + date, date.toString());
+    }
+
+    /** Queue one schedule item per date from..to (inclusive), e.g. to backfill a season's results. */
+    public int enqueueScheduleRange(LocalDate from, LocalDate to) {
+        int queued = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (enqueueSchedule(date)) queued++;
+        }
+        log.info("Queued {} schedule work items for {}..{}.", queued, from, to);
+        return queued;
+    }
+
+    /**
+     * Add an item, or re-arm a finished one with the same key. An item that is still pending
+     * or claimed is left alone, so concurrent triggers on several instances queue it once.
+     */
+    private boolean enqueue(WorkItem.Type type, String taskKey, String payload) {
+        Optional<WorkItem> existing = workItemRepository.findByTaskKey(taskKey);
+        try {
+            if (existing.isEmpty()) {
+                workItemRepository.saveAndFlush(new WorkItem(type, taskKey, payload));
+                return true;
+            }
+
+            WorkItem item = existing.get();
+            if (item.getStatus() == WorkItem.Status.PENDING || item.getStatus() == WorkItem.Status.CLAIMED) {
+                return false;
+            }
+            item.setStatus(WorkItem.Status.PENDING);
+            item.setPayload(payload);
+            item.setOwner(null);
+            item.setLeaseExpiresAt(null);
+            item.setAttempts(0);
+            item.setUpdatedAt(Instant.now());
+            workItemRepository.saveAndFlush(item);
+            return true;
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // Another instance queued or re-armed it first
+            return false;
+        }
+    }
+
+    /**
+     * Claim up to max items; rows another instance takes between our read and write are skipped.
+     * An item whose lease ran out after its last attempt (it hangs or crashes its worker every
+     * time) is parked as FAILED instead.
+     */
+    List<WorkItem> claim(int max) {
+        Instant now = Instant.now();
+        List<WorkItem> claimed = new ArrayList<>();
+        List<WorkItem> candidates = workItemRepository.findClaimable(
+                WorkItem.Status.PENDING, WorkItem.Status.CLAIMED, now, PageRequest.of(0, max * 2));
+
+        for (WorkItem item : candidates) {
+            if (claimed.size() >= max) break;
+            if (item.getStatus() == WorkItem.Status.CLAIMED) {
+                if (item.getAttempts() >= MAX_ATTEMPTS) {
+                    park(item, now);
+                    continue;
+                }
+                log.warn("Reclaiming work item {} from {} (lease expired {}).",
+                        item.getTaskKey(), item.getOwner(), item.getLeaseExpiresAt());
+            }
+            item.setStatus(WorkItem.Status.CLAIMED);
+            item.setOwner(instanceId);
+            item.setLeaseExpiresAt(now.plus(leaseDuration));
+            item.setAttempts(item.getAttempts() + 1);
+            item.setUpdatedAt(now);
+            try {
+                claimed.add(workItemRepository.saveAndFlush(item));
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("Work item {} was claimed by another instance.", item.getTaskKey());
+            }
+        }
+        return claimed;
+    }
+
+    private void park(WorkItem item, Instant now) {
+        log.error("Work item {} lost its lease on all {} attempts (last owner {}); parking it as FAILED.",
+                item.getTaskKey(), item.getAttempts(), item.getOwner());
+        item.setStatus(WorkItem.Status.FAILED);
+        item.setOwner(null);
+        item.setLeaseExpiresAt(null);
+        item.setUpdatedAt(now);
+        try {
+            workItemRepository.saveAndFlush(item);
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Work item {} was changed by another instance.", item.getTaskKey());
+        }
+    }
+
+    /** Keep our leases alive while long fetches (rate-limit back-offs included) are running. */
+    @Scheduled(fixedDelayString = "${hockeypredictor.work.heartbeat-ms:10000}")
+    public void heartbeat() {
+        if (!enabled) return;
+        int renewed = workItemRepository.extendLeases(instanceId, WorkItem.Status.CLAIMED, Instant.now().plus(leaseDuration));
+        if (renewed > 0) log.debug("Renewed {} work item leases.", renewed);
+    }
+
+    @Scheduled(fixedDelayString = "${hockeypredictor.work.poll-ms:2000}")
+    public void poll() {
+        if (!enabled || !teamSnapshotService.isDatabaseReady()) return;
+
+        syncFromPeers();
+
+        List<WorkItem> items = claim(batchSize);
+        if (items.isEmpty()) return;
+
+        List<WorkItem> teamItems = new ArrayList<>();
+        for (WorkItem item : items) {
+            if (item.getType() == WorkItem.Type.TEAM_STATS) {
+                teamItems.add(item);
+            } else {
+                runSchedule(item);
+            }
+        }
+        if (!teamItems.isEmpty()) runTeams(teamItems);
+
+        teamSnapshotService.writeSnapshot();
+    }
+
+    private void runTeams(List<WorkItem> items) {
+        try {
+            List<JsonNode> leagueTeams = new ArrayList<>();
+            for (WorkItem item : items) leagueTeams.add(objectMapper.readTree(item.getPayload()));
+            SportsRadarService.TeamFetch fetch = sportsRadarService.fetchAndSaveTeams(leagueTeams);
+            log.info("Fetched {} teams ({} changed, {} failed).",
+                    items.size(), fetch.changed().size(), fetch.failedTeamIds().size());
+            for (int i = 0; i < items.size(); i++) {
+                boolean failed = fetch.failedTeamIds().contains(leagueTeams.get(i).path("id").asText(""));
+                if (failed) release(items.get(i));
+                else finish(items.get(i), WorkItem.Status.DONE);
+            }
+        } catch (Exception e) {
+            log.warn("Team work failed: {}", e.getMessage());
+            items.forEach(this::release);
+        }
+    }
+
+    private void runSchedule(WorkItem item) {
+        try {
+            List<Game> games = sportsRadarService.fetchGamesForDate(LocalDate.parse(item.getPayload()));
+            // Final scores feed the strength-of-schedule solve
+            strengthSolverService.addGames(games);
+            finish(item, WorkItem.Status.DONE);
+        } catch (Exception e) {
+            log.warn("Schedule work {} failed: {}", item.getTaskKey(), e.getMessage());
+            release(item);
+        }
+    }
+
+    /** Hand a failed item back for another attempt, or park it once it has used them up. */
+    private void release(WorkItem item) {
+        if (item.getAttempts() >= MAX_ATTEMPTS) {
+            log.error("Work item {} failed {} times; parking it as FAILED.", item.getTaskKey(), item.getAttempts());
+            finish(item, WorkItem.Status.FAILED);
+        } else {
+            finish(item, WorkItem.Status.PENDING);
+        }
+    }
+
+    private void finish(WorkItem item, WorkItem.Status status) {
+        int updated = workItemRepository.finish(item.getId(), instanceId, WorkItem.Status.CLAIMED, status, Instant.now());
+        if (updated == 0) {
+            // Our lease lapsed and someone else took the item over; their result wins
+            log.warn("Lost the lease on work item {} before finishing it.", item.getTaskKey());
+        }
+    }
+
+    /** Peers write straight to the database; reload our derived state when they finish work. */
+    private void syncFromPeers() {
+        Instant latest = workItemRepository.findLatestCompletionByOthers(WorkItem.Status.DONE, instanceId);
+        boolean firstCheck = !peersChecked;
+        peersChecked = true;
+        if (latest == null || latest.equals(lastPeerCompletion)) return;
+        lastPeerCompletion = latest;
+        if (firstCheck) return; // startup already loaded everything
+
+        strengthSolverService.rebuild();
+        Set<Long> teamIds = teamRepository.findAll().stream().map(Team::getId).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new TeamRatingsChangedEvent(teamIds));
+        eventPublisher.publishEvent(new GamesChangedEvent(Set.of()));
+        teamSnapshotService.writeSnapshot();
+        log.debug("Reloaded state after work finished on another instance.");
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.HockeyPredictor.util;
+
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.GameSegment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable, columnar file holding one closed season of games (big-endian).
+ * Columns are stored with narrow fixed-width encodings instead of a general-purpose
+ * codec, so the file stays directly memory-mappable and each row is addressable:
+ *
+ * <pre>
+ * header   magic "HKGS" (int), version (int), season (int), rowCount (int), teamCount (int),
+ *          createdAtMillis (long)
+ * teams    teamCount x [ id (long), name (64 bytes UTF-8, zero padded) ]
+ * columns  gameId      rowCount x long
+ *          dayOffset   rowCount x unsigned short  (days since July 1 of the season)
+ *          homeTeam    rowCount x unsigned byte   (index into teams)
+ *          awayTeam    rowCount x unsigned byte
+ *          homeGoals   rowCount x unsigned byte
+ *          awayGoals   rowCount x unsigned byte
+ * trailer  CRC32 of everything above (long)
+ * </pre>
+ *
+ * About 14 bytes per game, against roughly 40 for a row in the live table.
+ */
+public class GameSegmentFile {
+
+    private static final int MAGIC = 0x484B4753; // "HKGS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES + Long.BYTES;
+    private static final int TEAM_BYTES = Long.BYTES + TeamSnapshotFile.NAME_BYTES;
+    private static final int ROW_BYTES = Long.BYTES + Short.BYTES + 4;
+    private static final int TRAILER_BYTES = Long.BYTES;
+    private static final int MAX_TEAMS = 256;
+
+    public static Path pathFor(Path directory, int season) {
+        return directory.resolve("season-" + season + ".seg");
+    }
+
+    private record Row(long gameId, LocalDate date, long homeId, String homeName, long awayId, String awayName,
+                       int homeGoals, int awayGoals) {}
+
+    /**
+     * Write the season's games atomically (built next to the target, then moved into place).
+     * Rows of an existing segment for the same season are carried over unless one of the
+     * games replaces them, so late results can be folded into an archived season.
+     */
+    public static void write(Path path, int season, List<Game> games, GameSegment existing) throws IOException {
+        Map<Long, Row> rows = new HashMap<>();
+        if (existing != null) {
+            for (int r = 0; r < existing.getRowCount(); r++) {
+                int home = existing.getHomeTeamIndex(r);
+                int away = existing.getAwayTeamIndex(r);
+                rows.put(existing.getGameId(r), new Row(existing.getGameId(r), existing.getDate(r),
+                        existing.getTeamId(home), existing.getTeamName(home),
+                        existing.getTeamId(away), existing.getTeamName(away),
+                        existing.getHomeGoals(r), existing.getAwayGoals(r)));
+            }
+        }
+        for (Game g : games) {
+            if (g.getSeason() == null || g.getSeason() != season) {
+                throw new IOException("Game " + g.getId() + " is not from season " + season);
+            }
+            rows.put(g.getId(), new Row(g.getId(), g.getDate(),
+                    g.getHomeTeam().getId(), g.getHomeTeam().getName(),
+                    g.getAwayTeam().getId(), g.getAwayTeam().getName(),
+                    g.getHomeTeamGoals(), g.getAwayTeamGoals()));
+        }
+        List<Row> sorted = new ArrayList<>(rows.values());
+        sorted.sort(Comparator.comparing(Row::date).thenComparingLong(Row::gameId));
+
+        // Team dictionary, in first-seen order
+        Map<Long, Integer> slotByTeam = new HashMap<>();
+        List<Long> teamIds = new ArrayList<>();
+        List<String> teamNames = new ArrayList<>();
+        for (Row row : sorted) {
+            if (slotByTeam.putIfAbsent(row.homeId(), teamIds.size()) == null) {
+                teamIds.add(row.homeId());
+                teamNames.add(row.homeName());
+            }
+            if (slotByTeam.putIfAbsent(row.awayId(), teamIds.size()) == null) {
+                teamIds.add(row.awayId());
+                teamNames.add(row.awayName());
+            }
+        }
+        if (teamIds.size() > MAX_TEAMS) {
+            throw new IOException("Season " + season + " has more than " + MAX_TEAMS + " teams");
+        }
+
+        int rowCount = sorted.size();
+        int length = HEADER_BYTES + teamIds.size() * TEAM_BYTES + rowCount * ROW_BYTES + TRAILER_BYTES;
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        buf.putInt(MAGIC);
+        buf.putInt(VERSION);
+        buf.putInt(season);
+        buf.putInt(rowCount);
+        buf.putInt(teamIds.size());
+        buf.putLong(System.currentTimeMillis());
+
+        for (int i = 0; i < teamIds.size(); i++) {
+            buf.putLong(teamIds.get(i));
+            TeamSnapshotFile.putName(buf, teamNames.get(i));
+        }
+
+        for (Row row : sorted) buf.putLong(row.gameId());
+        for (Row row : sorted) buf.putShort((short) ChronoUnit.DAYS.between(Game.seasonStart(season), row.date()));
+        for (Row row : sorted) buf.put((byte) (int) slotByTeam.get(row.homeId()));
+        for (Row row : sorted) buf.put((byte) (int) slotByTeam.get(row.awayId()));
+        for (Row row : sorted) buf.put(goals(row.gameId(), row.homeGoals()));
+        for (Row row : sorted) buf.put(goals(row.gameId(), row.awayGoals()));
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, length - TRAILER_BYTES);
+        buf.putLong(crc.getValue());
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, buf.array());
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Memory-map a segment. Only the header and team dictionary are decoded; the
+     * columns are read in place. Throws IOException if the file is truncated, fails
+     * its checksum or has another layout.
+     */
+    public static GameSegment read(Path path) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int length = buf.capacity();
+        if (length < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("Segment " + path + " is truncated");
+        }
+        if (buf.getInt(0) != MAGIC) {
+            throw new IOException("Not a game segment: " + path);
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IOException("Segment " + path + " has version " + buf.getInt(4) + ", expected " + VERSION);
+        }
+
+        int season = buf.getInt(8);
+        int rowCount = buf.getInt(12);
+        int teamCount = buf.getInt(16);
+        long expected = HEADER_BYTES + (long) teamCount * TEAM_BYTES + (long) rowCount * ROW_BYTES + TRAILER_BYTES;
+        if (rowCount < 0 || teamCount < 0 || teamCount > MAX_TEAMS || expected != length) {
+            throw new IOException("Segment " + path + " has an unexpected length");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.slice(0, length - TRAILER_BYTES));
+        if (crc.getValue() != buf.getLong(length - TRAILER_BYTES)) {
+            throw new IOException("Segment " + path + " failed its checksum");
+        }
+
+        buf.position(20);
+        long createdAtMillis = buf.getLong();
+        long[] teamIds = new long[teamCount];
+        String[] teamNames = new String[teamCount];
+        byte[] nameBytes = new byte[TeamSnapshotFile.NAME_BYTES];
+        for (int i = 0; i < teamCount; i++) {
+            teamIds[i] = buf.getLong();
+            buf.get(nameBytes);
+            teamNames[i] = TeamSnapshotFile.getName(nameBytes);
+        }
+
+        GameSegment segment = new GameSegment(season, createdAtMillis, rowCount, teamIds, teamNames, buf, buf.position());
+        for (int row = 0; row < rowCount; row++) {
+            if (segment.getHomeTeamIndex(row) >= teamCount || segment.getAwayTeamIndex(row) >= teamCount) {
+                throw new IOException("Segment " + path + " references an unknown team");
+            }
+        }
+        return segment;
+    }
+
+    private static byte goals(long gameId, int goals) throws IOException {
+        if (goals < 0 || goals > 255) {
+            throw new IOException("Game " + gameId + " has an out-of-range score");
+        }
+        return (byte) goals;
+    }
+}
@@ -29,6 +29,11 @@ public class PredictionFileWriter {
                 writer.newLine();
                 writer.write(String.format("Winner: %s (%s)", r.getPredictedWinner(), r.getAmericanOdds()));
                 writer.newLine();
+                if (r.getInterval80() != null) {
+                    writer.write(String.format("80%%: %.3f-%.3f, fair odds %s",
+                            r.getInterval80().getLow(), r.getInterval80().getHigh(), r.getFairOddsRange()));
+                    writer.newLine();
+                }
                 if (r.getNotes() != null && !r.getNotes().isEmpty()) {
                     writer.write("Notes: " + r.getNotes());
                     writer.newLine();
@@ -0,0 +1,53 @@
+package com.example.HockeyPredictor.util;
+
+import com.example.HockeyPredictor.model.Team;
+
+/**
+ * Stable 64-bit FNV-1a hash over every stat field ingest maps onto a Team,
+ * used to skip writes when a refresh returns the same numbers as last time.
+ * Field order is part of the format: changing it just forces one full rewrite.
+ */
+public class TeamFingerprint {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    public static long of(Team t) {
+        long h = OFFSET_BASIS;
+        h = mix(h, t.getName() == null ? 0 : t.getName().hashCode());
+        h = mix(h, t.getConference() == null ? 0 : t.getConference().hashCode());
+        h = mix(h, t.getDivision() == null ? 0 : t.getDivision().hashCode());
+        h = mix(h, t.getWins());
+        h = mix(h, t.getLosses());
+        h = mix(h, t.getOvertimeLosses());
+        h = mix(h, t.getPoints());
+        h = mix(h, t.getGoalsFor());
+        h = mix(h, t.getGoalsAgainst());
+        h = mix(h, t.getGoalDifferential());
+        h = mix(h, t.getShotsFor());
+        h = mix(h, t.getShotsAgainst());
+        h = mix(h, t.getHits());
+        h = mix(h, t.getPowerplays());
+        h = mix(h, t.getPenalties());
+        h = mix(h, Double.doubleToLongBits(t.getPowerplayPercentage()));
+        h = mix(h, Double.doubleToLongBits(t.getPenaltyKillPercentage()));
+        h = mix(h, Double.doubleToLongBits(t.getSavePercentage()));
+        h = mix(h, t.getGiveaways());
+        h = mix(h, t.getTakeaways());
+        h = mix(h, t.getCorsiFor());
+        h = mix(h, t.getFenwickFor());
+        h = mix(h, t.getCorsiAgainst());
+        h = mix(h, t.getFenwickAgainst());
+        h = mix(h, t.getOpponentsCorsiFor());
+        h = mix(h, t.getOpponentsFenwickFor());
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= PRIME;
+        }
+        return h;
+    }
+}
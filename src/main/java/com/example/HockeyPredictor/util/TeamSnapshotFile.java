@@ -0,0 +1,173 @@
+package com.example.HockeyPredictor.util;
+
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * Fixed-layout binary format for TeamStatsSnapshot (big-endian):
+ *
+ * <pre>
+ * header   magic "HKPS" (int), version (int), featureCount (int), teamCount (int), gameCount (int),
+ *          scheduleEpochDay (long), createdAtMillis (long)
+ * teams    teamCount x [ id (long), name (64 bytes UTF-8, zero padded), featureCount x double ]
+ * games    gameCount x [ gameId (long), homeIndex (int), awayIndex (int) ]
+ * trailer  CRC32 of everything above (long)
+ * </pre>
+ */
+public class TeamSnapshotFile {
+
+    private static final int MAGIC = 0x484B5053; // "HKPS"
+    private static final int VERSION = 2; // 2: schedule-context features
+    private static final int HEADER_BYTES = 5 * Integer.BYTES + 2 * Long.BYTES;
+    static final int NAME_BYTES = 64;
+    private static final int GAME_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int TRAILER_BYTES = Long.BYTES;
+
+    private static int teamBytes(int featureCount) {
+        return Long.BYTES + NAME_BYTES + featureCount * Double.BYTES;
+    }
+
+    /** Write atomically: the file is built next to the target and moved into place. */
+    public static void write(Path path, TeamStatsSnapshot snapshot) throws IOException {
+        int teamCount = snapshot.getTeamCount();
+        int gameCount = snapshot.getGameCount();
+        int length = HEADER_BYTES + teamCount * teamBytes(TeamFeatures.COUNT) + gameCount * GAME_BYTES + TRAILER_BYTES;
+
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        buf.putInt(MAGIC);
+        buf.putInt(VERSION);
+        buf.putInt(TeamFeatures.COUNT);
+        buf.putInt(teamCount);
+        buf.putInt(gameCount);
+        buf.putLong(snapshot.getScheduleDate().toEpochDay());
+        buf.putLong(snapshot.getCreatedAtMillis());
+
+        for (int i = 0; i < teamCount; i++) {
+            buf.putLong(snapshot.getTeamId(i));
+            putName(buf, snapshot.getTeamName(i));
+            for (double v : snapshot.getFeatures(i)) {
+                buf.putDouble(v);
+            }
+        }
+
+        for (int i = 0; i < gameCount; i++) {
+            buf.putLong(snapshot.getGameId(i));
+            buf.putInt(snapshot.getHomeIndex(i));
+            buf.putInt(snapshot.getAwayIndex(i));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, length - TRAILER_BYTES);
+        buf.putLong(crc.getValue());
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, buf.array());
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Memory-map and decode a snapshot. Throws IOException if the file is truncated,
+     * fails its checksum, or was written with a different layout or feature set.
+     */
+    public static TeamStatsSnapshot read(Path path) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int length = buf.capacity();
+        if (length < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("Snapshot " + path + " is truncated");
+        }
+        if (buf.getInt(0) != MAGIC) {
+            throw new IOException("Not a team-stats snapshot: " + path);
+        }
+        int version = buf.getInt(4);
+        int featureCount = buf.getInt(8);
+        if (version != VERSION || featureCount != TeamFeatures.COUNT) {
+            throw new IOException(String.format("Snapshot %s has version %d / %d features, expected %d / %d",
+                    path, version, featureCount, VERSION, TeamFeatures.COUNT));
+        }
+
+        int teamCount = buf.getInt(12);
+        int gameCount = buf.getInt(16);
+        long expected = HEADER_BYTES + (long) teamCount * teamBytes(featureCount) + (long) gameCount * GAME_BYTES + TRAILER_BYTES;
+        if (teamCount < 0 || gameCount < 0 || expected != length) {
+            throw new IOException("Snapshot " + path + " has an unexpected length");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.slice(0, length - TRAILER_BYTES));
+        if (crc.getValue() != buf.getLong(length - TRAILER_BYTES)) {
+            throw new IOException("Snapshot " + path + " failed its checksum");
+        }
+
+        buf.position(20);
+        LocalDate scheduleDate = LocalDate.ofEpochDay(buf.getLong());
+        long createdAtMillis = buf.getLong();
+
+        long[] teamIds = new long[teamCount];
+        String[] teamNames = new String[teamCount];
+        double[][] features = new double[teamCount][featureCount];
+        byte[] nameBytes = new byte[NAME_BYTES];
+        for (int i = 0; i < teamCount; i++) {
+            teamIds[i] = buf.getLong();
+            buf.get(nameBytes);
+            teamNames[i] = getName(nameBytes);
+            buf.asDoubleBuffer().get(features[i]);
+            buf.position(buf.position() + featureCount * Double.BYTES);
+        }
+
+        long[] gameIds = new long[gameCount];
+        int[] homeIndex = new int[gameCount];
+        int[] awayIndex = new int[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            gameIds[i] = buf.getLong();
+            homeIndex[i] = buf.getInt();
+            awayIndex[i] = buf.getInt();
+            if (homeIndex[i] < 0 || homeIndex[i] >= teamCount || awayIndex[i] < 0 || awayIndex[i] >= teamCount) {
+                throw new IOException("Snapshot " + path + " references an unknown team");
+            }
+        }
+
+        return new TeamStatsSnapshot(createdAtMillis, scheduleDate, teamIds, teamNames, features,
+                gameIds, homeIndex, awayIndex);
+    }
+
+    static void putName(ByteBuffer buf, String name) {
+        byte[] bytes = (name == null ? "" : name).getBytes(StandardCharsets.UTF_8);
+        int len = Math.min(bytes.length, NAME_BYTES);
+        // Don't cut a multi-byte character in half
+        while (len < bytes.length && len > 0 && (bytes[len] & 0xC0) == 0x80) {
+            len--;
+        }
+        buf.put(bytes, 0, len);
+        buf.put(new byte[NAME_BYTES - len]);
+    }
+
+    static String getName(byte[] bytes) {
+        int len = 0;
+        while (len < bytes.length && bytes[len] != 0) {
+            len++;
+        }
+        return new String(bytes, 0, len, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,41 @@
+-- Baseline schema, matching what ddl-auto=update has been creating for the entities.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS team (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                    VARCHAR(255),
+    wins                    INTEGER NOT NULL,
+    losses                  INTEGER NOT NULL,
+    overtime_losses         INTEGER NOT NULL,
+    points                  INTEGER NOT NULL,
+    goals_for               INTEGER NOT NULL,
+    goals_against           INTEGER NOT NULL,
+    goal_differential       INTEGER NOT NULL,
+    shots_for               INTEGER NOT NULL,
+    shots_against           INTEGER NOT NULL,
+    hits                    INTEGER NOT NULL,
+    powerplays              INTEGER NOT NULL,
+    penalties               INTEGER NOT NULL,
+    powerplay_percentage    DOUBLE PRECISION NOT NULL,
+    penalty_kill_percentage DOUBLE PRECISION NOT NULL,
+    save_percentage         DOUBLE PRECISION NOT NULL,
+    giveaways               INTEGER NOT NULL,
+    takeaways               INTEGER NOT NULL,
+    corsi_for               INTEGER NOT NULL,
+    fenwick_for             INTEGER NOT NULL,
+    corsi_against           INTEGER NOT NULL,
+    fenwick_against         INTEGER NOT NULL,
+    opponents_corsi_for     INTEGER NOT NULL,
+    opponents_fenwick_for   INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS game (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    home_team_id    BIGINT,
+    away_team_id    BIGINT,
+    home_team_goals INTEGER NOT NULL,
+    away_team_goals INTEGER NOT NULL,
+    date            DATE,
+    CONSTRAINT fk_game_home_team FOREIGN KEY (home_team_id) REFERENCES team (id),
+    CONSTRAINT fk_game_away_team FOREIGN KEY (away_team_id) REFERENCES team (id)
+);
@@ -0,0 +1,2 @@
+-- Hash of each team's stat fields as last written, so ingest can skip unchanged teams
+ALTER TABLE team ADD COLUMN IF NOT EXISTS stats_fingerprint BIGINT;
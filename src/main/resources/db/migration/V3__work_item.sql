@@ -0,0 +1,16 @@
+-- Ingest work items shared between instances (claimed with leases + optimistic locking)
+CREATE TABLE IF NOT EXISTS work_item (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_key         VARCHAR(255) NOT NULL,
+    type             VARCHAR(255) NOT NULL,
+    payload          VARCHAR(2000),
+    status           VARCHAR(255) NOT NULL,
+    owner            VARCHAR(255),
+    lease_expires_at TIMESTAMP(6) WITH TIME ZONE,
+    attempts         INTEGER NOT NULL,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE,
+    version          BIGINT NOT NULL,
+    CONSTRAINT uk_work_item_task_key UNIQUE (task_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_work_item_status ON work_item (status, lease_expires_at);
@@ -0,0 +1,10 @@
+-- Season key on games (start year, July -> June) and the indexes behind the date lookups
+ALTER TABLE game ADD COLUMN IF NOT EXISTS season INTEGER;
+
+UPDATE game
+SET season = CASE WHEN MONTH(date) >= 7 THEN YEAR(date) ELSE YEAR(date) - 1 END
+WHERE season IS NULL AND date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_game_season_date ON game (season, date);
+CREATE INDEX IF NOT EXISTS idx_game_home_team_date ON game (home_team_id, date);
+CREATE INDEX IF NOT EXISTS idx_game_away_team_date ON game (away_team_id, date);
@@ -0,0 +1,3 @@
+-- Conference / division per team (from the league hierarchy), used by the standings read model
+ALTER TABLE team ADD COLUMN IF NOT EXISTS conference VARCHAR(255);
+ALTER TABLE team ADD COLUMN IF NOT EXISTS division VARCHAR(255);
@@ -0,0 +1,13 @@
+-- Shadow model outputs, scored against results later
+CREATE TABLE IF NOT EXISTS shadow_prediction (
+    id                              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    game_id                         BIGINT,
+    game_date                       DATE,
+    model_key                       VARCHAR(255),
+    home_win_probability            DOUBLE PRECISION NOT NULL,
+    production_model_key            VARCHAR(255),
+    production_home_win_probability DOUBLE PRECISION NOT NULL,
+    created_at                      TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_shadow_prediction_model ON shadow_prediction (model_key, game_id);
@@ -0,0 +1,89 @@
+package com.example.HockeyPredictor.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency percentiles and throughput per endpoint for one load-test run, and the
+ * comparison against a stored baseline (a properties file of the same numbers).
+ */
+class LatencyReport {
+
+    record Row(String endpoint, long requests, double throughput,
+               double p50Micros, double p99Micros, double p999Micros, double maxMicros) {}
+
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+    private final double seconds;
+    private final long errors;
+
+    LatencyReport(Map<String, Histogram> histograms, double seconds, long errors) {
+        this.seconds = seconds;
+        this.errors = errors;
+        histograms.forEach((endpoint, h) -> rows.put(endpoint, new Row(endpoint, h.getTotalCount(),
+                h.getTotalCount() / seconds,
+                micros(h.getValueAtPercentile(50.0)), micros(h.getValueAtPercentile(99.0)),
+                micros(h.getValueAtPercentile(99.9)), micros(h.getMaxValue()))));
+    }
+
+    String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Load test: %.1f s measured, %d errors%n", seconds, errors));
+        sb.append(String.format("%-10s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "p50 us", "p99 us", "p999 us", "max us"));
+        for (Row r : rows.values()) {
+            sb.append(String.format("%-10s %10d %10.1f %10.0f %10.0f %10.0f %10.0f%n",
+                    r.endpoint(), r.requests(), r.throughput(), r.p50Micros(), r.p99Micros(), r.p999Micros(), r.maxMicros()));
+        }
+        return sb.toString();
+    }
+
+    Properties toBaseline() {
+        Properties p = new Properties();
+        for (Row r : rows.values()) {
+            p.setProperty(r.endpoint() + ".throughput", String.format(Locale.ROOT, "%.1f", r.throughput()));
+            p.setProperty(r.endpoint() + ".p50", String.format(Locale.ROOT, "%.0f", r.p50Micros()));
+            p.setProperty(r.endpoint() + ".p99", String.format(Locale.ROOT, "%.0f", r.p99Micros()));
+            p.setProperty(r.endpoint() + ".p999", String.format(Locale.ROOT, "%.0f", r.p999Micros()));
+        }
+        return p;
+    }
+
+    /**
+     * Endpoints whose p50 / p99 latency rose, or throughput fell, by more than the threshold
+     * (0.25 = 25%). p999 is reported but not gated: a handful of samples decide it.
+     */
+    List<String> regressionsAgainst(Properties baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Row r : rows.values()) {
+            checkHigher(regressions, baseline, r.endpoint() + ".p50", r.p50Micros(), threshold);
+            checkHigher(regressions, baseline, r.endpoint() + ".p99", r.p99Micros(), threshold);
+
+            String key = r.endpoint() + ".throughput";
+            if (baseline.containsKey(key)) {
+                double before = Double.parseDouble(baseline.getProperty(key));
+                if (r.throughput() < before * (1 - threshold)) {
+                    regressions.add(String.format("%s: %.1f req/s, baseline %.1f", key, r.throughput(), before));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    private static void checkHigher(List<String> regressions, Properties baseline, String key, double now, double threshold) {
+        if (!baseline.containsKey(key)) return;
+        double before = Double.parseDouble(baseline.getProperty(key));
+        if (now > before * (1 + threshold)) {
+            regressions.add(String.format("%s: %.0f us, baseline %.0f us", key, now, before));
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
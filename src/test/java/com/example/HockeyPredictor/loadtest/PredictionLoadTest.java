@@ -0,0 +1,378 @@
+package com.example.HockeyPredictor.loadtest;
+
+import com.example.HockeyPredictor.service.RatingModelRegistry;
+import com.example.HockeyPredictor.service.TeamFeatureIndex;
+import com.example.HockeyPredictor.service.UncertaintyService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test: many concurrent clients against /api/predict, /api/predict/batch, /api/teams
+ * and /api/games (and optionally /api/standings), while ingests run back to back against
+ * the Sportradar stub. Runs only with -Ploadtest; everything is local.
+ *
+ * Clients send at a fixed rate and latency is measured from when each request was due,
+ * not when it was sent, so a stalled server shows up in the percentiles instead of just
+ * slowing the clients down (coordinated omission). Ingest latency is plain service time.
+ *
+ * Settings (system properties, defaults in brackets):
+ * loadtest.clients [64], loadtest.rate [2000 requests/s across all clients],
+ * loadtest.warmup-seconds [5], loadtest.duration-seconds [20],
+ * loadtest.mix [predict:55,teams:20,games:20,batch:5], loadtest.batch-size [1000 matchups],
+ * loadtest.ingest [true],
+ * loadtest.baseline [src/test/resources/loadtest/baseline.properties],
+ * loadtest.max-regression [0.25], loadtest.update-baseline [false].
+ *
+ * Runs fail if an endpoint's p50/p99 or throughput regress past max-regression against the
+ * baseline, or if there is no baseline; record one with -Dloadtest.update-baseline=true.
+ *
+ * Separately, batch throughput is measured with loadtest.batch-clients [cores] clients
+ * posting batches back to back for loadtest.batch-seconds [10] (after a 3 s warmup); the
+ * run fails below loadtest.batch-target [100000] matchups/s.
+ *
+ * The bootstrap intervals of a full slate (every team playing) are timed
+ * without a budget, loadtest.bootstrap-runs [100] times, and p99 must fit the configured
+ * hockeypredictor.uncertainty.budget-ms; otherwise live runs get cut short.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "sportradar.api.key=loadtest",
+        "hockeypredictor.snapshot.path=target/loadtest/team-stats.snapshot",
+        "hockeypredictor.archive.path=target/loadtest/archive",
+        "logging.level.com.example.HockeyPredictor=WARN",
+        "logging.level.com.example.HockeyPredictor.loadtest=INFO"
+})
+class PredictionLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionLoadTest.class);
+
+    private static final Map<String, String> PATHS = Map.of(
+            "predict", "/api/predict",
+            "teams", "/api/teams",
+            "games", "/api/games",
+            "standings", "/api/standings",
+            "batch", "/api/predict/batch");
+
+    private static final SportradarStub STUB = SportradarStub.start();
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("sportradar.api.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TeamFeatureIndex teamFeatureIndex;
+
+    @Autowired
+    private RatingModelRegistry ratingModelRegistry;
+
+    @Value("${hockeypredictor.uncertainty.iterations}")
+    private int bootstrapIterations;
+
+    @Value("${hockeypredictor.uncertainty.budget-ms}")
+    private long bootstrapBudgetMs;
+
+    @Value("${hockeypredictor.uncertainty.seed}")
+    private long bootstrapSeed;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void readsUnderConcurrentIngest() throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "2000"));
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 20);
+        boolean ingest = Boolean.parseBoolean(System.getProperty("loadtest.ingest", "true"));
+        double maxRegression = Double.parseDouble(System.getProperty("loadtest.max-regression", "0.25"));
+        Path baselinePath = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.properties"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.update-baseline");
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", "predict:55,teams:20,games:20,batch:5"));
+        int batchSize = Integer.getInteger("loadtest.batch-size", 1000);
+        String batchBody = batchBody(batchSize);
+
+        // Seed the in-memory database from the stub: teams, yesterday's results, today's games
+        assertEquals(200, send(get("/api/update-data")).statusCode(), "seed ingest failed");
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        for (String endpoint : mix.keySet()) recorders.put(endpoint, new Recorder(3));
+        if (ingest) recorders.put("ingest", new Recorder(3));
+
+        String[] choices = buildChoices(mix);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder errors = new LongAdder();
+
+        // Each client sends one request per interval, staggered so the clients don't fire together
+        long intervalNanos = (long) (clients * 1e9 / rate);
+        long scheduleStart = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                long seed = c;
+                long firstDue = scheduleStart + intervalNanos * c / clients;
+                executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    long due = firstDue;
+                    while (running.get()) {
+                        long wait = due - System.nanoTime();
+                        if (wait > 0) LockSupport.parkNanos(wait);
+                        String endpoint = choices[random.nextInt(choices.length)];
+                        HttpRequest request = endpoint.equals("batch") ? post(PATHS.get(endpoint), batchBody) : get(PATHS.get(endpoint));
+                        timed(recorders.get(endpoint), request, due, errors);
+                        due += intervalNanos;
+                    }
+                });
+            }
+            if (ingest) {
+                executor.submit(() -> {
+                    while (running.get()) timed(recorders.get("ingest"), get("/api/update-data"), System.nanoTime(), errors);
+                });
+            }
+
+            Map<String, Histogram> histograms = new LinkedHashMap<>();
+            double seconds;
+            long errorCount;
+            try {
+                Thread.sleep(warmupSeconds * 1_000L);
+                recorders.values().forEach(Recorder::reset);
+                errors.reset();
+                long start = System.nanoTime();
+                Thread.sleep(durationSeconds * 1_000L);
+
+                // Take the measured interval before the clients drain
+                recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+                seconds = (System.nanoTime() - start) / 1e9;
+                errorCount = errors.sum();
+            } finally {
+                running.set(false);
+            }
+
+            LatencyReport report = new LatencyReport(histograms, seconds, errorCount);
+            String text = report.format();
+            log.info("\n{}", text);
+            Path reportPath = Path.of("target/loadtest/report.txt");
+            Files.createDirectories(reportPath.getParent());
+            Files.writeString(reportPath, text);
+
+            assertEquals(0, errorCount, "requests failed during the run");
+            compareWithBaseline(report, baselinePath, updateBaseline, maxRegression);
+        }
+    }
+
+    @Test
+    void batchThroughputMeetsTarget() throws Exception {
+        int clients = Integer.getInteger("loadtest.batch-clients", Runtime.getRuntime().availableProcessors());
+        int seconds = Integer.getInteger("loadtest.batch-seconds", 10);
+        int batchSize = Integer.getInteger("loadtest.batch-size", 1000);
+        double target = Double.parseDouble(System.getProperty("loadtest.batch-target", "100000"));
+        assertEquals(200, send(get("/api/update-data")).statusCode(), "seed ingest failed");
+
+        // Closed loop on purpose: this measures capacity, not latency
+        HttpRequest request = post(PATHS.get("batch"), batchBody(batchSize));
+        Recorder recorder = new Recorder(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder errors = new LongAdder();
+        Histogram histogram;
+        double measured;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    while (running.get()) timed(recorder, request, System.nanoTime(), errors);
+                });
+            }
+            try {
+                Thread.sleep(3_000);
+                recorder.reset();
+                errors.reset();
+                long start = System.nanoTime();
+                Thread.sleep(seconds * 1_000L);
+                histogram = recorder.getIntervalHistogram();
+                measured = (System.nanoTime() - start) / 1e9;
+            } finally {
+                running.set(false);
+            }
+        }
+
+        double matchupsPerSecond = histogram.getTotalCount() * batchSize / measured;
+        log.info("Batch: {} clients, {} matchups/s, p99 {} ms per {}-matchup batch (target {} matchups/s)",
+                clients, String.format("%.0f", matchupsPerSecond),
+                String.format("%.1f", histogram.getValueAtPercentile(99.0) / 1e6), batchSize, String.format("%.0f", target));
+        assertEquals(0, errors.sum(), "batch requests failed during the run");
+        assertTrue(matchupsPerSecond >= target, String.format(
+                "Batch throughput %.0f matchups/s is under the %.0f target", matchupsPerSecond, target));
+    }
+
+    @Test
+    void fullSlateBootstrapFitsBudget() throws Exception {
+        int runs = Integer.getInteger("loadtest.bootstrap-runs", 100);
+        assertEquals(200, send(get("/api/update-data")).statusCode(), "seed ingest failed");
+
+        // Every team plays: team t hosts team t + n/2
+        List<TeamFeatureIndex.Entry> entries = teamFeatureIndex.getAll();
+        double[][] teamFeatures = new double[entries.size()][];
+        for (int t = 0; t < teamFeatures.length; t++) teamFeatures[t] = entries.get(t).getFeatures();
+        int games = teamFeatures.length / 2;
+        assertTrue(games > 0, "no teams seeded");
+        int[] home = new int[games];
+        int[] away = new int[games];
+        for (int g = 0; g < games; g++) {
+            home[g] = g;
+            away[g] = g + games;
+        }
+
+        // No budget, so every run does all the replicates a live slate would need
+        UncertaintyService unbounded = new UncertaintyService(ratingModelRegistry, bootstrapIterations, 60_000, bootstrapSeed);
+        for (int i = 0; i < runs / 5; i++) unbounded.homeWinQuantiles(teamFeatures, home, away);
+        Histogram histogram = new Histogram(3);
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            assertNotNull(unbounded.homeWinQuantiles(teamFeatures, home, away));
+            histogram.recordValue(System.nanoTime() - start);
+        }
+
+        double p99Ms = histogram.getValueAtPercentile(99.0) / 1e6;
+        log.info("Bootstrap, {} games x {} replicates: p50 {} ms, p99 {} ms, max {} ms (budget {} ms)",
+                games, bootstrapIterations, String.format("%.1f", histogram.getValueAtPercentile(50.0) / 1e6),
+                String.format("%.1f", p99Ms), String.format("%.1f", histogram.getMaxValue() / 1e6), bootstrapBudgetMs);
+        assertTrue(p99Ms <= bootstrapBudgetMs, String.format(
+                "Full-slate bootstrap p99 %.1f ms is over the %d ms budget", p99Ms, bootstrapBudgetMs));
+    }
+
+    private void compareWithBaseline(LatencyReport report, Path baselinePath, boolean update, double maxRegression)
+            throws Exception {
+        if (update) {
+            Files.createDirectories(baselinePath.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(baselinePath)) {
+                report.toBaseline().store(out, "Load test baseline (latencies in microseconds)");
+            }
+            log.info("Recorded load test baseline at {}", baselinePath);
+            return;
+        }
+        assertTrue(Files.exists(baselinePath), "No load test baseline at " + baselinePath
+                + "; record one on the reference machine with -Dloadtest.update-baseline=true");
+
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselinePath)) {
+            baseline.load(in);
+        }
+        List<String> regressions = report.regressionsAgainst(baseline, maxRegression);
+        assertTrue(regressions.isEmpty(), "Regressed more than " + (int) (maxRegression * 100) + "% against "
+                + baselinePath + ":\n" + String.join("\n", regressions));
+    }
+
+    /**
+     * Send one request and record its latency from due (when it should have been sent).
+     * Batch results report bad matchups in the body with a 200, so those count as errors too.
+     */
+    private void timed(Recorder recorder, HttpRequest request, long due, LongAdder errors) {
+        try {
+            HttpResponse<String> response = send(request);
+            recorder.recordValue(System.nanoTime() - due);
+            if (response.statusCode() != 200 || response.body().contains("\"error\"")) errors.increment();
+        } catch (Exception e) {
+            errors.increment();
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String ndjson) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson))
+                .build();
+    }
+
+    /** NDJSON matchups cycling through the stub's teams by name, every one resolvable. */
+    private static String batchBody(int size) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            int home = i % SportradarStub.TEAM_COUNT;
+            int away = (home + 1 + i / SportradarStub.TEAM_COUNT % (SportradarStub.TEAM_COUNT - 1)) % SportradarStub.TEAM_COUNT;
+            sb.append("{\"id\":\"").append(i)
+                    .append("\",\"home\":\"").append(SportradarStub.fullName(home))
+                    .append("\",\"away\":\"").append(SportradarStub.fullName(away))
+                    .append("\"}\n");
+        }
+        return sb.toString();
+    }
+
+    /** "predict:55,teams:20,games:20,batch:5" -> endpoint weights. */
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (!PATHS.containsKey(kv[0])) {
+                throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + kv[0] + " (known: " + PATHS.keySet() + ")");
+            }
+            weights.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        return weights;
+    }
+
+    /** One entry per weight unit, so picking an endpoint is a single random index. */
+    private static String[] buildChoices(Map<String, Integer> mix) {
+        List<String> choices = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) choices.add(endpoint);
+        });
+        return choices.toArray(new String[0]);
+    }
+}
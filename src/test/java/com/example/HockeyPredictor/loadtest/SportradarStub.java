@@ -0,0 +1,195 @@
+package com.example.HockeyPredictor.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the Sportradar NHL API: a 32-team league with deterministic
+ * stats and schedules, served from an in-process HTTP server.
+ *
+ * Stats move a little with every league-hierarchy request (one per ingest), so each
+ * ingest round writes changed teams the way a real refresh does.
+ */
+class SportradarStub {
+
+    static final int TEAM_COUNT = 32;
+
+    private static final String[][] DIVISIONS = {
+            {"Eastern", "Atlantic"}, {"Eastern", "Metropolitan"}, {"Western", "Central"}, {"Western", "Pacific"}};
+
+    private static final Pattern TEAM_DOC = Pattern.compile("/seasons/\\d+/REG/teams/team-(\\d+)/(analytics|statistics)\\.json");
+    private static final Pattern SCHEDULE = Pattern.compile("/games/(\\d+)/(\\d+)/(\\d+)/schedule\\.json");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicInteger round = new AtomicInteger();
+    private final HttpServer server;
+
+    private SportradarStub(HttpServer server) {
+        this.server = server;
+    }
+
+    static SportradarStub start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            SportradarStub stub = new SportradarStub(server);
+            server.createContext("/", stub::handle);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the Sportradar stub", e);
+        }
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        ObjectNode body;
+        Matcher m;
+        if (path.equals("/league/hierarchy.json")) {
+            round.incrementAndGet();
+            body = hierarchy();
+        } else if ((m = TEAM_DOC.matcher(path)).matches()) {
+            int team = Integer.parseInt(m.group(1));
+            body = m.group(2).equals("analytics") ? analytics(team) : statistics(team);
+        } else if ((m = SCHEDULE.matcher(path)).matches()) {
+            body = schedule(LocalDate.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), Integer.parseInt(m.group(3))));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] json = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private ObjectNode hierarchy() {
+        ObjectNode root = mapper.createObjectNode();
+        ArrayNode conferences = root.putArray("conferences");
+        for (int d = 0; d < DIVISIONS.length; d++) {
+            ObjectNode conference = null;
+            for (var existing : conferences) {
+                if (existing.path("name").asText().equals(DIVISIONS[d][0])) conference = (ObjectNode) existing;
+            }
+            if (conference == null) {
+                conference = conferences.addObject().put("name", DIVISIONS[d][0]);
+                conference.putArray("divisions");
+            }
+            ObjectNode division = ((ArrayNode) conference.get("divisions")).addObject().put("name", DIVISIONS[d][1]);
+            ArrayNode teams = division.putArray("teams");
+            for (int i = d * 8; i < (d + 1) * 8; i++) {
+                teams.addObject().put("id", teamId(i)).put("market", market(i)).put("name", club(i));
+            }
+        }
+        return root;
+    }
+
+    private ObjectNode analytics(int team) {
+        int r = round.get();
+        ObjectNode root = mapper.createObjectNode();
+        root.putObject("own_record").putObject("statistics").putObject("total")
+                .put("corsi_for", 900 + team * 7 + r * 3)
+                .put("corsi_against", 880 + (team * 11) % 60 + r * 3)
+                .put("fenwick_for", 700 + team * 5 + r * 2)
+                .put("fenwick_against", 690 + (team * 13) % 50 + r * 2);
+        root.putObject("opponents").putObject("statistics").putObject("total")
+                .put("corsi_for", 880 + (team * 11) % 60 + r * 3)
+                .put("fenwick_for", 690 + (team * 13) % 50 + r * 2);
+        return root;
+    }
+
+    private ObjectNode statistics(int team) {
+        int r = round.get();
+        int wins = 8 + (team * 7) % 11 + r / 2;
+        int losses = 6 + (team * 5) % 9 + r / 3;
+        int overtimeLosses = (team * 3) % 5;
+        ObjectNode root = mapper.createObjectNode();
+        ObjectNode ownRecord = root.putObject("own_record");
+        ObjectNode statistics = ownRecord.putObject("statistics");
+        statistics.putObject("total")
+                .put("goals", 60 + team * 2 + r)
+                .put("penalties", 80 + (team * 7) % 30)
+                .put("powerplays", 70 + (team * 5) % 25)
+                .put("hits", 450 + team * 9)
+                .put("giveaways", 150 + (team * 3) % 40)
+                .put("takeaways", 130 + (team * 7) % 50)
+                .put("shots", 620 + team * 4 + r * 2);
+        statistics.putObject("powerplay").put("percentage", 15.0 + (team % 10));
+        statistics.putObject("shorthanded").put("kill_pct", 75.0 + (team % 8));
+        ownRecord.putObject("goaltending").putObject("total")
+                .put("wins", wins)
+                .put("losses", losses)
+                .put("overtime_losses", overtimeLosses)
+                .put("goals_against", 58 + (team * 5) % 30 + r)
+                .put("shots_against", 610 + (team * 9) % 70 + r * 2)
+                .put("saves_pct", 0.890 + (team % 7) * 0.003);
+        return root;
+    }
+
+    /** 16 games a day: a round-robin pairing (circle method) that rotates with the date. */
+    private ObjectNode schedule(LocalDate date) {
+        boolean played = date.isBefore(LocalDate.now());
+        int day = (int) (date.toEpochDay() % (TEAM_COUNT - 1));
+
+        ObjectNode root = mapper.createObjectNode();
+        ArrayNode games = root.putArray("games");
+        for (int k = 0; k < TEAM_COUNT / 2; k++) {
+            int a = (k == 0) ? TEAM_COUNT - 1 : (day + k) % (TEAM_COUNT - 1);
+            int b = (k == 0) ? day : (day - k + TEAM_COUNT - 1) % (TEAM_COUNT - 1);
+            int home = (date.getDayOfMonth() % 2 == 0) ? a : b;
+            int away = (home == a) ? b : a;
+
+            ObjectNode game = games.addObject();
+            game.putObject("home").put("name", fullName(home)).put("id", teamId(home));
+            game.putObject("away").put("name", fullName(away)).put("id", teamId(away));
+            game.put("status", played ? "closed" : "scheduled");
+            if (played) {
+                int homeGoals = 1 + (home * 3 + day) % 5;
+                int awayGoals = 1 + (away * 5 + day) % 5;
+                if (homeGoals == awayGoals) homeGoals++; // no ties
+                game.put("home_points", homeGoals).put("away_points", awayGoals);
+            }
+        }
+        return root;
+    }
+
+    private static String teamId(int i) {
+        return String.format("team-%02d", i);
+    }
+
+    private static String market(int i) {
+        return String.format("Market%02d", i);
+    }
+
+    private static String club(int i) {
+        return String.format("Club%02d", i);
+    }
+
+    static String fullName(int i) {
+        return market(i) + " " + club(i);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.HockeyPredictor.loadtest;
+
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.service.StrengthSolverService;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Times the strength solve on a synthetic league: loadtest.solver-seasons [3] seasons'
+ * worth of games (32 teams, 1312 games a season) solved cold, then re-solved warm after
+ * each of loadtest.solver-days [30] days of 16 more games. Fails if the cold solve's time or
+ * the warm solves' p99 is over loadtest.solver-max-ms [50].
+ */
+class StrengthSolverLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StrengthSolverLoadTest.class);
+
+    private static final int TEAMS = 32;
+    private static final int GAMES_PER_SEASON = 1312;
+    private static final int GAMES_PER_DAY = 16;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final Team[] teams = new Team[TEAMS];
+    private long nextGameId = 1;
+
+    @Test
+    void multiSeasonSolveTakesMilliseconds() {
+        int seasons = Integer.getInteger("loadtest.solver-seasons", 3);
+        int days = Integer.getInteger("loadtest.solver-days", 30);
+        long maxMs = Long.getLong("loadtest.solver-max-ms", 50);
+        for (int t = 0; t < TEAMS; t++) {
+            teams[t] = new Team();
+            ReflectionTestUtils.setField(teams[t], "id", (long) t + 1);
+        }
+
+        // The solver only keeps the current season, so every game is dated today
+        List<Game> history = games(seasons * GAMES_PER_SEASON);
+
+        // Warm up the JIT on a throwaway solver first
+        for (int i = 0; i < 5; i++) solver().addGames(history);
+
+        StrengthSolverService solver = solver();
+        long start = System.nanoTime();
+        solver.addGames(history);
+        double coldMs = (System.nanoTime() - start) / 1e6;
+
+        Histogram warm = new Histogram(3);
+        for (int d = 0; d < days; d++) {
+            List<Game> day = games(GAMES_PER_DAY);
+            long t0 = System.nanoTime();
+            solver.addGames(day);
+            warm.recordValue(System.nanoTime() - t0);
+        }
+        double warmP99Ms = warm.getValueAtPercentile(99.0) / 1e6;
+
+        log.info("Strength solve, {} games x {} teams: cold {} ms; warm re-solve after {} games: p50 {} ms, p99 {} ms",
+                history.size(), TEAMS, String.format("%.2f", coldMs), GAMES_PER_DAY,
+                String.format("%.2f", warm.getValueAtPercentile(50.0) / 1e6), String.format("%.2f", warmP99Ms));
+        assertTrue(coldMs <= maxMs, String.format("Cold solve took %.2f ms (max %d)", coldMs, maxMs));
+        assertTrue(warmP99Ms <= maxMs, String.format("Warm re-solve p99 %.2f ms (max %d)", warmP99Ms, maxMs));
+    }
+
+    private static StrengthSolverService solver() {
+        return new StrengthSolverService(mock(GameRepository.class), mock(ApplicationEventPublisher.class));
+    }
+
+    /** Completed games between random pairs, scored from fixed team strengths plus noise. */
+    private List<Game> games(int count) {
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int home = random.nextInt(TEAMS);
+            int away = (home + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            int homeGoals = Math.max(0, 3 + (TEAMS / 2 - home) / 8 + random.nextInt(-2, 3));
+            int awayGoals = Math.max(0, 3 + (TEAMS / 2 - away) / 8 + random.nextInt(-2, 3));
+            if (homeGoals == awayGoals) homeGoals++; // decided in overtime
+            Game g = new Game(teams[home], teams[away], homeGoals, awayGoals, LocalDate.now());
+            ReflectionTestUtils.setField(g, "id", nextGameId++);
+            games.add(g);
+        }
+        return games;
+    }
+}
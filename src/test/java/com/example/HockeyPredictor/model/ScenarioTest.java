@@ -0,0 +1,58 @@
+package com.example.HockeyPredictor.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ScenarioTest {
+
+    private static double[] base() {
+        double[] f = new double[TeamFeatures.COUNT];
+        f[TeamFeatures.WINS] = 30;
+        f[TeamFeatures.SAVE_PERCENTAGE] = 0.910;
+        return f;
+    }
+
+    private static Scenario goalieOut(long teamId) {
+        double[] deltas = new double[TeamFeatures.COUNT];
+        deltas[TeamFeatures.SAVE_PERCENTAGE] = -0.015;
+        return new Scenario("goalie-out", null, Map.of(teamId, deltas));
+    }
+
+    @Test
+    void affectedTeamGetsAModifiedCopyAndTheBaseIsUnchanged() {
+        double[] base = base();
+        double[] applied = goalieOut(1L).apply(1L, base);
+
+        assertNotSame(base, applied);
+        assertEquals(0.895, applied[TeamFeatures.SAVE_PERCENTAGE], 1e-12);
+        assertEquals(30, applied[TeamFeatures.WINS]);
+        assertArrayEquals(base(), base);
+    }
+
+    @Test
+    void untouchedTeamGetsTheSameArray() {
+        double[] base = base();
+        assertSame(base, goalieOut(1L).apply(2L, base));
+    }
+
+    @Test
+    void laterChangesToTheDeltasDoNotLeakIn() {
+        double[] deltas = new double[TeamFeatures.COUNT];
+        deltas[TeamFeatures.WINS] = 1;
+        Map<Long, double[]> byTeam = new HashMap<>(Map.of(1L, deltas));
+        Scenario scenario = new Scenario("plus-one", null, byTeam);
+
+        deltas[TeamFeatures.WINS] = 100;
+        byTeam.put(2L, deltas);
+
+        assertEquals(31, scenario.apply(1L, base())[TeamFeatures.WINS]);
+        assertEquals(Map.of(1L, Map.of("wins", 1.0)), scenario.getDeltas());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * NDJSON in, NDJSON out, against two indexed teams and a stand-in model whose home
+ * win probability moves with wins, save percentage and home ice.
+ */
+class BatchPredictionServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TeamFeatureIndex teamFeatureIndex = mock(TeamFeatureIndex.class);
+    private final PredictionService predictionService = mock(PredictionService.class);
+
+    private TeamFeatureIndex.Entry bruins;
+    private BatchPredictionService service;
+
+    @BeforeEach
+    void setUp() {
+        bruins = new TeamFeatureIndex.Entry(1, "Boston Bruins", features(30, 0.910));
+        TeamFeatureIndex.Entry avalanche = new TeamFeatureIndex.Entry(2, "Colorado Avalanche", features(25, 0.900));
+        when(teamFeatureIndex.resolve(anyString())).thenReturn(null);
+        when(teamFeatureIndex.resolve("Bruins")).thenReturn(bruins);
+        when(teamFeatureIndex.resolve("Avalanche")).thenReturn(avalanche);
+
+        when(predictionService.homeWinProbability(any(double[].class), any(double[].class), anyBoolean()))
+                .thenAnswer(inv -> {
+                    double[] home = inv.getArgument(0);
+                    double[] away = inv.getArgument(1);
+                    boolean neutralSite = inv.getArgument(2);
+                    double diff = (home[TeamFeatures.WINS] - away[TeamFeatures.WINS]) / 100
+                            + (home[TeamFeatures.SAVE_PERCENTAGE] - away[TeamFeatures.SAVE_PERCENTAGE]) * 10
+                            + (neutralSite ? 0 : 0.05);
+                    return 0.5 + diff;
+                });
+        when(predictionService.convertProbabilityToAmericanOdds(anyDouble())).thenReturn("-110");
+
+        service = new BatchPredictionService(predictionService, teamFeatureIndex, objectMapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void resultsComeBackInOrderAcrossChunks() throws Exception {
+        int count = BatchPredictionService.CHUNK_SIZE + 5;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String home = i % 2 == 0 ? "Bruins" : "Avalanche";
+            String away = i % 2 == 0 ? "Avalanche" : "Bruins";
+            body.append("{\"id\":\"").append(i).append("\",\"home\":\"").append(home)
+                    .append("\",\"away\":\"").append(away).append("\"}\n");
+        }
+
+        List<JsonNode> lines = run(body.toString());
+
+        assertEquals(count, lines.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(String.valueOf(i), lines.get(i).get("id").asText());
+            assertEquals(i % 2 == 0 ? "Boston Bruins" : "Colorado Avalanche", lines.get(i).get("homeTeam").asText());
+        }
+    }
+
+    @Test
+    void overridesApplyToOneMatchupOnly() throws Exception {
+        List<JsonNode> lines = run("""
+                {"id":"plain","home":"Bruins","away":"Avalanche"}
+                {"id":"cold","home":"Bruins","away":"Avalanche","homeOverrides":{"savePercentage":0.880}}
+                {"id":"again","home":"Bruins","away":"Avalanche"}
+                """);
+
+        double plain = lines.get(0).get("homeWinProbability").asDouble();
+        assertEquals(0.5 + 0.05 + 0.1 + 0.05, plain, 1e-9);
+        assertEquals(0.5 + 0.05 - 0.2 + 0.05, lines.get(1).get("homeWinProbability").asDouble(), 1e-9);
+        assertEquals(plain, lines.get(2).get("homeWinProbability").asDouble(), 1e-9);
+        assertEquals(0.910, bruins.getFeatures()[TeamFeatures.SAVE_PERCENTAGE]);
+    }
+
+    @Test
+    void neutralSiteDropsHomeIce() throws Exception {
+        List<JsonNode> lines = run("""
+                {"id":"home","home":"Bruins","away":"Avalanche"}
+                {"id":"neutral","home":"Bruins","away":"Avalanche","neutralSite":true}
+                """);
+
+        assertEquals(0.05, lines.get(0).get("homeWinProbability").asDouble()
+                - lines.get(1).get("homeWinProbability").asDouble(), 1e-9);
+    }
+
+    @Test
+    void unknownTeamsAndFeaturesAreErrorLines() throws Exception {
+        List<JsonNode> lines = run("""
+                {"id":"1","home":"Whalers","away":"Avalanche"}
+                {"id":"2","home":"Bruins","away":"Nordiques"}
+                {"id":"3","home":"Bruins","away":"Avalanche","awayOverrides":{"grit":1.0}}
+                {"id":"4","home":"Bruins","away":"Avalanche"}
+                """);
+
+        assertEquals("Unknown home team: Whalers", lines.get(0).get("error").asText());
+        assertEquals("Unknown away team: Nordiques", lines.get(1).get("error").asText());
+        assertEquals("Unknown feature: grit", lines.get(2).get("error").asText());
+        assertFalse(lines.get(3).has("error"));
+    }
+
+    @Test
+    void invalidRequestIsAnErrorLineAndTheBatchGoesOn() throws Exception {
+        List<JsonNode> lines = run("""
+                {"id":"1","home":"Bruins","away":"Avalanche"}
+                {"id":"2","home":"Bruins","away":"Avalanche","neutralSite":"maybe"}
+                {"id":"3","home":"Bruins","away":"Avalanche"}
+                """);
+
+        assertEquals(3, lines.size());
+        assertEquals("1", lines.get(0).get("id").asText());
+        assertTrue(lines.get(1).get("error").asText().startsWith("Invalid request at line 2"));
+        assertEquals("3", lines.get(2).get("id").asText());
+    }
+
+    @Test
+    void malformedJsonEndsTheBatchWithAnErrorLine() throws Exception {
+        List<JsonNode> lines = run("""
+                {"id":"1","home":"Bruins","away":"Avalanche"}
+                {"id":"2","home":"Bruins",
+                {"id":"3","home":"Bruins","away":"Avalanche"}
+                """);
+
+        assertEquals("1", lines.get(0).get("id").asText());
+        JsonNode last = lines.get(lines.size() - 1);
+        assertTrue(last.get("error").asText().startsWith("Malformed JSON"));
+        assertNotEquals("3", last.path("id").asText());
+    }
+
+    @Test
+    void malformedFirstLineStillAnswersWithAnErrorLine() throws Exception {
+        List<JsonNode> lines = run("{not json}\n");
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).get("error").asText().startsWith("Malformed JSON"));
+    }
+
+    private List<JsonNode> run(String ndjson) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.predict(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static double[] features(int wins, double savePercentage) {
+        double[] f = new double[TeamFeatures.COUNT];
+        f[TeamFeatures.WINS] = wins;
+        f[TeamFeatures.SAVE_PERCENTAGE] = savePercentage;
+        return f;
+    }
+}
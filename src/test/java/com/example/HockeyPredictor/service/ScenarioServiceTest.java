@@ -0,0 +1,114 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.ScenarioPrediction;
+import com.example.HockeyPredictor.dto.ScenarioRequest;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Today's two games under scenarios, with a stand-in model whose home win
+ * probability is 0.5 plus ten times the save percentage gap.
+ */
+class ScenarioServiceTest {
+
+    private final TeamFeatureIndex teamFeatureIndex = mock(TeamFeatureIndex.class);
+    private final PredictionService predictionService = mock(PredictionService.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final ScheduleContextIndex scheduleContextIndex = mock(ScheduleContextIndex.class);
+
+    private final double[][] indexed = new double[5][];
+    private ScenarioService service;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 4; id++) {
+            double[] f = new double[TeamFeatures.COUNT];
+            f[TeamFeatures.SAVE_PERCENTAGE] = 0.900 + id * 0.002;
+            indexed[id] = f;
+            when(teamFeatureIndex.getById(id)).thenReturn(new TeamFeatureIndex.Entry(id, "Team" + id, f));
+        }
+        when(gameRepository.findByDate(LocalDate.now())).thenReturn(List.of(game(10L, 1L, 2L), game(11L, 3L, 4L)));
+        when(scheduleContextIndex.withContext(any(double[].class), anyLong(), any(LocalDate.class), anyLong()))
+                .thenAnswer(inv -> ((double[]) inv.getArgument(0)).clone());
+        when(predictionService.homeWinProbability(any(double[].class), any(double[].class), anyBoolean()))
+                .thenAnswer(inv -> 0.5 + 10 * (((double[]) inv.getArgument(0))[TeamFeatures.SAVE_PERCENTAGE]
+                        - ((double[]) inv.getArgument(1))[TeamFeatures.SAVE_PERCENTAGE]));
+        when(predictionService.convertProbabilityToAmericanOdds(anyDouble())).thenReturn("-110");
+
+        service = new ScenarioService(teamFeatureIndex, predictionService, gameRepository, scheduleContextIndex);
+    }
+
+    @Test
+    void compareTodayDiffsEachScenarioAgainstTheBaseline() {
+        service.createScenario(request("team1-goalie-out", 1L, "savePercentage", -0.015));
+        service.createScenario(request("team4-hot", 4L, "savePercentage", 0.010));
+
+        Map<String, List<ScenarioPrediction>> results = service.compareToday(List.of("team4-hot", "team1-goalie-out"));
+
+        assertEquals(List.of("team4-hot", "team1-goalie-out"), List.copyOf(results.keySet()));
+
+        List<ScenarioPrediction> goalieOut = results.get("team1-goalie-out");
+        assertEquals(0.48, goalieOut.get(0).getBaselineHomeProbability(), 1e-9);
+        assertEquals(0.33, goalieOut.get(0).getScenarioHomeProbability(), 1e-9);
+        assertEquals("Team2", goalieOut.get(0).getPredictedWinner());
+        assertEquals(0.48, goalieOut.get(1).getScenarioHomeProbability(), 1e-9); // game without team 1
+
+        List<ScenarioPrediction> hot = results.get("team4-hot");
+        assertEquals(0.48, hot.get(0).getScenarioHomeProbability(), 1e-9);
+        assertEquals(0.48, hot.get(1).getBaselineHomeProbability(), 1e-9);
+        assertEquals(0.38, hot.get(1).getScenarioHomeProbability(), 1e-9);
+    }
+
+    @Test
+    void evaluatingLeavesTheIndexedVectorsAlone() {
+        service.createScenario(request("team1-goalie-out", 1L, "savePercentage", -0.015));
+        service.predictToday("team1-goalie-out");
+
+        assertEquals(0.902, indexed[1][TeamFeatures.SAVE_PERCENTAGE], 1e-12);
+    }
+
+    @Test
+    void unknownTeamOrFeatureIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.createScenario(request("nobody", 99L, "savePercentage", -0.015)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.createScenario(request("grit", 1L, "grit", 1.0)));
+    }
+
+    private static ScenarioRequest request(String name, long teamId, String feature, double delta) {
+        ScenarioRequest r = new ScenarioRequest();
+        r.setName(name);
+        r.setDeltas(Map.of(teamId, Map.of(feature, delta)));
+        return r;
+    }
+
+    private static Game game(long id, long homeId, long awayId) {
+        Game g = new Game(team(homeId), team(awayId), 0, 0, LocalDate.now());
+        ReflectionTestUtils.setField(g, "id", id);
+        return g;
+    }
+
+    private static Team team(long id) {
+        Team t = new Team();
+        ReflectionTestUtils.setField(t, "id", id);
+        return t;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Team 1 plays at home against 2 on day 0, at 3 on day 1 and at home against 2 again on
+ * day 4. Days are counted from a date well inside the current season.
+ */
+class ScheduleContextIndexTest {
+
+    private static final int SEASON = Game.seasonOf(LocalDate.now());
+    private static final LocalDate DAY_0 = Game.seasonStart(SEASON).plusDays(100);
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private ScheduleContextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(gameRepository.findBySeasonOrderByDateAscIdAsc(SEASON)).thenReturn(List.of(
+                game(10L, 1L, 2L, day(0)),
+                game(11L, 3L, 1L, day(1)),
+                game(12L, 1L, 2L, day(4))));
+
+        index = new ScheduleContextIndex(gameRepository, eventPublisher);
+        index.refresh();
+    }
+
+    @Test
+    void daysSinceLastGameCountsFromThePreviousGame() {
+        assertEquals(0, index.daysSinceLastGame(1L, day(0)));  // nothing before the first game
+        assertEquals(1, index.daysSinceLastGame(1L, day(2)));
+        assertEquals(2, index.daysSinceLastGame(1L, day(3)));
+        assertEquals(4, index.daysSinceLastGame(1L, day(8)));
+        assertEquals(1, index.daysSinceLastGame(3L, day(2)));
+        assertEquals(0, index.daysSinceLastGame(99L, day(8))); // a team without games
+    }
+
+    @Test
+    void gamesInLastDaysLeavesOutTheDateAndDaysBeforeTheWindow() {
+        assertEquals(0, index.gamesInLastDays(1L, day(0), 7));
+        assertEquals(2, index.gamesInLastDays(1L, day(4), 7));
+        assertEquals(3, index.gamesInLastDays(1L, day(5), 7));
+        assertEquals(2, index.gamesInLastDays(1L, day(8), 7)); // day 0 is eight days back
+        assertEquals(1, index.gamesInLastDays(1L, day(5), 1));
+    }
+
+    @Test
+    void backToBackAndTravel() {
+        assertTrue(index.isBackToBack(1L, day(2)));
+        assertFalse(index.isBackToBack(1L, day(3)));
+        assertFalse(index.isBackToBack(1L, day(0)));
+
+        // Last game was in team 3's arena
+        assertTrue(index.travels(1L, day(2), 1L));
+        assertFalse(index.travels(1L, day(2), 3L));
+        assertFalse(index.travels(1L, day(0), 2L)); // no previous game
+        // Team 2's last game was in team 1's arena
+        assertTrue(index.travels(2L, day(5), 2L));
+    }
+
+    @Test
+    void fillWritesEveryContextFeature() {
+        double[] features = new double[TeamFeatures.COUNT];
+        features[TeamFeatures.WINS] = 12;
+
+        double[] f = index.withContext(features, 1L, day(2), 1L);
+
+        assertEquals(1.0, f[TeamFeatures.DAYS_SINCE_LAST_GAME]);
+        assertEquals(2.0, f[TeamFeatures.GAMES_LAST_7_DAYS]);
+        assertEquals(1.0, f[TeamFeatures.BACK_TO_BACK]);
+        assertEquals(1.0, f[TeamFeatures.TRAVELLED]);
+        assertEquals(12.0, f[TeamFeatures.WINS]);
+        assertEquals(0.0, features[TeamFeatures.DAYS_SINCE_LAST_GAME]); // the shared vector is left alone
+    }
+
+    @Test
+    void reDatedGameMovesInBothTeamsTimelines() {
+        when(gameRepository.findAllById(Set.of(11L))).thenReturn(List.of(game(11L, 3L, 1L, day(3))));
+
+        index.onGamesChanged(new GamesChangedEvent(Set.of(11L)));
+
+        assertEquals(2, index.daysSinceLastGame(1L, day(2))); // back to day 0
+        assertEquals(1, index.daysSinceLastGame(1L, day(4)));
+        assertTrue(index.travels(1L, day(4), 1L));
+        assertEquals(0, index.daysSinceLastGame(3L, day(2)));
+        assertEquals(1, index.daysSinceLastGame(3L, day(4)));
+        assertEquals(3, index.gamesInLastDays(1L, day(5), 7));
+        verify(gameRepository, times(1)).findBySeasonOrderByDateAscIdAsc(SEASON);
+        verify(eventPublisher, times(2)).publishEvent(any(ReadModelUpdatedEvent.class));
+    }
+
+    @Test
+    void deletedGameIsTakenOut() {
+        index.onGamesChanged(new GamesChangedEvent(Set.of(12L))); // no longer in the repository
+
+        assertEquals(7, index.daysSinceLastGame(1L, day(8)));
+        assertEquals(8, index.daysSinceLastGame(2L, day(8)));
+        assertEquals(2, index.gamesInLastDays(1L, day(5), 7));
+    }
+
+    @Test
+    void gamesFromOtherSeasonsAreLeftOut() {
+        LocalDate lastSeason = Game.seasonStart(SEASON - 1).plusDays(100);
+        when(gameRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(
+                game(10L, 1L, 2L, lastSeason),   // re-dated into last season
+                game(20L, 1L, 3L, lastSeason))); // backfilled
+
+        index.onGamesChanged(new GamesChangedEvent(Set.of(10L, 20L)));
+
+        assertEquals(0, index.daysSinceLastGame(1L, lastSeason.plusDays(1)));
+        assertEquals(0, index.daysSinceLastGame(1L, day(1)));
+        assertEquals(0, index.daysSinceLastGame(2L, day(4)));
+        assertEquals(1, index.daysSinceLastGame(1L, day(2)));
+    }
+
+    @Test
+    void rebuildsWhenTheSeasonChangesOrAPeerChangedGames() {
+        ReflectionTestUtils.setField(index, "season", SEASON - 1);
+        index.onGamesChanged(new GamesChangedEvent(Set.of(11L)));
+        verify(gameRepository, times(2)).findBySeasonOrderByDateAscIdAsc(SEASON);
+
+        index.onGamesChanged(new GamesChangedEvent(Set.of()));
+        verify(gameRepository, times(3)).findBySeasonOrderByDateAscIdAsc(SEASON);
+        verify(gameRepository, never()).findAllById(any());
+        assertEquals(1, index.daysSinceLastGame(1L, day(2)));
+    }
+
+    private static LocalDate day(int offset) {
+        return DAY_0.plusDays(offset);
+    }
+
+    private static Game game(long id, long homeTeamId, long awayTeamId, LocalDate date) {
+        Game game = new Game(team(homeTeamId), team(awayTeamId), 0, 0, date);
+        ReflectionTestUtils.setField(game, "id", id);
+        return game;
+    }
+
+    private static Team team(long id) {
+        Team team = new Team();
+        ReflectionTestUtils.setField(team, "id", id);
+        return team;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The cache and the feature index wired through a real event multicaster, with a
+ * request forced into the worst spot: after the cache dropped its bodies for a
+ * change but before the index re-read the team.
+ */
+class SerializedResponseCacheTest {
+
+    /** Runs first on a ratings change and serves a request the way a racing client would. */
+    static class EarlyRequest {
+        final SerializedResponseCache cache;
+        final TeamFeatureIndex index;
+
+        EarlyRequest(SerializedResponseCache cache, TeamFeatureIndex index) {
+            this.cache = cache;
+            this.index = index;
+        }
+
+        @EventListener
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public void onTeamRatingsChanged(TeamRatingsChangedEvent event) {
+            cache.onTeamRatingsChanged(event);
+            winsBody(cache, index);
+        }
+    }
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final Team team = new Team();
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        team.setName("Boston Bruins");
+        team.setWins(10);
+        ReflectionTestUtils.setField(team, "id", 1L);
+        when(teamRepository.findAll()).thenReturn(List.of(team));
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team));
+
+        TeamSnapshotService teamSnapshotService = mock(TeamSnapshotService.class);
+        when(teamSnapshotService.getLatestSnapshot()).thenReturn(Optional.empty());
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TeamRepository.class, () -> teamRepository);
+        context.registerBean(TeamSnapshotService.class, () -> teamSnapshotService);
+        context.registerBean(StrengthSolverService.class, () -> mock(StrengthSolverService.class));
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(TeamFeatureIndex.class);
+        context.registerBean(SerializedResponseCache.class);
+        context.registerBean(EarlyRequest.class);
+        context.refresh();
+        context.getBean(TeamFeatureIndex.class).refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void bodyBuiltBeforeTheIndexCaughtUpIsNotServed() {
+        SerializedResponseCache cache = context.getBean(SerializedResponseCache.class);
+        TeamFeatureIndex index = context.getBean(TeamFeatureIndex.class);
+        assertEquals("[10.0]", winsBody(cache, index));
+
+        team.setWins(11);
+        context.publishEvent(new TeamRatingsChangedEvent(Set.of(1L)));
+
+        assertEquals("[11.0]", winsBody(cache, index));
+    }
+
+    private static String winsBody(SerializedResponseCache cache, TeamFeatureIndex index) {
+        byte[] json = cache.get("wins", () -> index.getAll().stream()
+                .map(e -> e.getFeatures()[TeamFeatures.WINS]).toList());
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
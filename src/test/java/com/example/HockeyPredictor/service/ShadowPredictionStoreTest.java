@@ -0,0 +1,123 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.ModelScore;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.ShadowPrediction;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.repository.GameRepository;
+import com.example.HockeyPredictor.repository.ShadowPredictionRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShadowPredictionStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 10);
+
+    private final ShadowPredictionRepository shadowPredictionRepository = mock(ShadowPredictionRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameArchiveService gameArchiveService = mock(GameArchiveService.class);
+    private final ShadowPredictionStore store =
+            new ShadowPredictionStore(shadowPredictionRepository, gameRepository, gameArchiveService);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsOnlyTheFirstPredictionPerModelAndGame() {
+        when(shadowPredictionRepository.findRecordedGameIds(eq("candidate@1"), anyCollection())).thenReturn(Set.of(10L));
+        when(shadowPredictionRepository.findRecordedGameIds(eq("other@1"), anyCollection())).thenReturn(Set.of());
+
+        store.record(List.of(
+                prediction(10L, "candidate@1", 0.6, 0.5, at(DAY, 12)),
+                prediction(11L, "candidate@1", 0.4, 0.5, at(DAY, 12)),
+                prediction(10L, "other@1", 0.7, 0.5, at(DAY, 12))));
+
+        ArgumentCaptor<List<ShadowPrediction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(shadowPredictionRepository, timeout(2000)).saveAll(saved.capture());
+        assertEquals(List.of("candidate@1:11", "other@1:10"),
+                saved.getValue().stream().map(p -> p.getModelKey() + ":" + p.getGameId()).toList());
+    }
+
+    @Test
+    void recordsNothingForAnEmptySlate() {
+        store.record(List.of());
+
+        verify(shadowPredictionRepository, after(200).never()).findRecordedGameIds(anyString(), anyCollection());
+        verify(shadowPredictionRepository, never()).saveAll(any());
+    }
+
+    /**
+     * Game 10 is predicted twice (the earlier row counts), 11 is live, 12 archived, 13 was
+     * only predicted after its day ended and 14 hasn't been played.
+     */
+    @Test
+    void scoresTheEarliestPredictionAgainstLiveAndArchivedResults() {
+        LocalDate later = DAY.plusDays(1);
+        when(shadowPredictionRepository.findByModelKeyOrderByCreatedAtAsc("candidate@1")).thenReturn(List.of(
+                candidate(10L, DAY, 0.7, 0.6, at(DAY, 10)),
+                candidate(11L, DAY, 0.4, 0.55, at(DAY, 10)),
+                candidate(12L, DAY, 0.8, 0.5, at(DAY, 10)),
+                candidate(10L, DAY, 0.1, 0.1, at(DAY, 12)),
+                candidate(13L, DAY, 0.9, 0.9, at(later, 1)),
+                candidate(14L, later, 0.6, 0.6, at(later, 1))));
+        when(gameRepository.findAllById(any())).thenReturn(List.of(
+                game(10L, 3, 2), game(11L, 1, 4), game(14L, 0, 0)));
+        when(gameArchiveService.findArchivedScores(Set.of(12L))).thenReturn(Map.of(12L, new int[] {2, 1}));
+
+        ModelScore score = store.score("candidate@1");
+
+        assertEquals(3, score.getGames());
+        assertEquals((0.09 + 0.16 + 0.04) / 3, score.getBrierScore(), 1e-12);
+        assertEquals(-(Math.log(0.7) + Math.log(0.6) + Math.log(0.8)) / 3, score.getLogLoss(), 1e-12);
+        assertEquals(1.0, score.getAccuracy(), 1e-12);
+        assertEquals((0.16 + 0.3025 + 0.25) / 3, score.getProductionBrierScore(), 1e-12);
+        assertEquals(-(Math.log(0.6) + Math.log(0.45) + Math.log(0.5)) / 3, score.getProductionLogLoss(), 1e-12);
+        assertEquals(1.0 / 3, score.getProductionAccuracy(), 1e-12);
+    }
+
+    @Test
+    void scoresZeroGamesWithoutPredictions() {
+        when(shadowPredictionRepository.findByModelKeyOrderByCreatedAtAsc("candidate@1")).thenReturn(List.of());
+
+        assertEquals(0, store.score("candidate@1").getGames());
+    }
+
+    private static ShadowPrediction prediction(long gameId, String modelKey, double probability,
+                                               double productionProbability, Instant createdAt) {
+        return new ShadowPrediction(gameId, DAY, modelKey, probability, "baseline@2", productionProbability, createdAt);
+    }
+
+    private static ShadowPrediction candidate(long gameId, LocalDate gameDate, double probability,
+                                              double productionProbability, Instant createdAt) {
+        return new ShadowPrediction(gameId, gameDate, "candidate@1", probability, "baseline@2",
+                productionProbability, createdAt);
+    }
+
+    private static Instant at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static Game game(long id, int homeGoals, int awayGoals) {
+        Game game = new Game(new Team(), new Team(), homeGoals, awayGoals, DAY);
+        ReflectionTestUtils.setField(game, "id", id);
+        return game;
+    }
+}
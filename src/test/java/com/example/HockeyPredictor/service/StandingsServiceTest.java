@@ -0,0 +1,162 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.dto.LeaderboardRow;
+import com.example.HockeyPredictor.dto.StandingRow;
+import com.example.HockeyPredictor.dto.StandingsView;
+import com.example.HockeyPredictor.dto.TeamRanking;
+import com.example.HockeyPredictor.event.ReadModelUpdatedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * An eight-team league where most teams are level on 22 points, so each tiebreaker
+ * decides at least one place. The stand-in model rates a team at a tenth of its
+ * goal differential.
+ */
+class StandingsServiceTest {
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final PredictionService predictionService = mock(PredictionService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final List<Team> teams = new ArrayList<>();
+    private Team alpha;
+    private StandingsService service;
+
+    @BeforeEach
+    void setUp() {
+        team(1L, "Foxtrot", "East", "Metropolitan", 12, 8, 0, 60, 45);  // 24 points
+        team(2L, "Bravo", "East", "Atlantic", 10, 4, 2, 44, 40);        // 22 in 16 games
+        team(3L, "Charlie", "West", "Central", 11, 6, 0, 52, 45);       // 22 in 17, 11 wins
+        team(4L, "Hotel", "East", "Metropolitan", 10, 5, 2, 48, 36);    // ... 10 wins, +12
+        alpha = team(5L, "Alpha", "East", "Atlantic", 10, 5, 2, 50, 40); // ... +10, 50 for
+        team(6L, "Echo", "West", "Pacific", 10, 5, 2, 50, 40);          // ... same, by name
+        team(7L, "Delta", "West", "Central", 10, 5, 2, 45, 35);         // ... +10, 45 for
+        team(8L, "Golf", null, null, 5, 10, 1, 30, 50);                 // 11 points
+        teams.get(1).setGiveaways(8);
+
+        when(teamRepository.findAll()).thenReturn(teams);
+        when(predictionService.featuresOf(any(Team.class)))
+                .thenAnswer(inv -> TeamFeatures.fromTeam(inv.getArgument(0)));
+        when(predictionService.teamRating(any(double[].class)))
+                .thenAnswer(inv -> ((double[]) inv.getArgument(0))[TeamFeatures.GOAL_DIFFERENTIAL] / 10);
+
+        service = new StandingsService(teamRepository, predictionService, eventPublisher);
+        service.onApplicationReady();
+    }
+
+    @Test
+    void breaksTiesOnGamesPlayedWinsGoalDifferentialGoalsForThenName() {
+        StandingsView view = service.getStandings("league");
+
+        assertEquals(List.of("Foxtrot", "Bravo", "Charlie", "Hotel", "Alpha", "Echo", "Delta", "Golf"),
+                names(view.getGroups().get("League")));
+        List<StandingRow> league = view.getGroups().get("League");
+        for (int i = 0; i < league.size(); i++) {
+            assertEquals(i + 1, league.get(i).getLeagueRank());
+        }
+    }
+
+    @Test
+    void groupsKeepLeagueOrderAndRankWithinTheGroup() {
+        StandingsView conferences = service.getStandings("conference");
+        assertEquals(List.of("Foxtrot", "Bravo", "Hotel", "Alpha"), names(conferences.getGroups().get("East")));
+        assertEquals(List.of("Charlie", "Echo", "Delta"), names(conferences.getGroups().get("West")));
+        assertEquals(List.of("Golf"), names(conferences.getGroups().get("Unassigned")));
+
+        StandingsView divisions = service.getStandings("division");
+        assertEquals(List.of("Bravo", "Alpha"), names(divisions.getGroups().get("Atlantic")));
+
+        StandingRow row = service.getTeamRanking(5L).getStanding();
+        assertEquals(5, row.getLeagueRank());
+        assertEquals(4, row.getConferenceRank());
+        assertEquals(2, row.getDivisionRank());
+        assertThrows(IllegalArgumentException.class, () -> service.getStandings("team"));
+    }
+
+    @Test
+    void leaderboardTopNSharesRanksOnEqualValues() {
+        List<LeaderboardRow> top = service.getLeaderboard(StandingsService.RATING, 5).getRows();
+
+        assertEquals(List.of(1L, 4L, 5L, 6L, 7L), top.stream().map(LeaderboardRow::getTeamId).toList());
+        assertEquals(List.of(1, 2, 3, 3, 3), top.stream().map(LeaderboardRow::getRank).toList());
+        assertEquals(1.5, top.get(0).getValue(), 1e-9);
+
+        assertEquals(8, service.getLeaderboard(StandingsService.RATING, 100).getRows().size());
+        assertEquals(List.of(), service.getLeaderboard(StandingsService.RATING, 0).getRows());
+        assertThrows(IllegalArgumentException.class, () -> service.getLeaderboard("vibes", 5));
+    }
+
+    @Test
+    void lowerIsBetterMetricsRankAscending() {
+        List<LeaderboardRow> giveaways = service.getLeaderboard("giveaways", 8).getRows();
+
+        // Everyone else has none, so Bravo's 8 is last and the rest share first place
+        assertEquals(Long.valueOf(2L), giveaways.get(7).getTeamId());
+        assertEquals(8, giveaways.get(7).getRank());
+        assertEquals(1, giveaways.get(0).getRank());
+        assertEquals(1, giveaways.get(6).getRank());
+    }
+
+    @Test
+    void ratingsChangedEventPublishesANewVersionWithTheTeamsNewRanks() {
+        TeamRanking before = service.getTeamRanking(5L);
+        assertEquals(5, before.getStanding().getLeagueRank());
+
+        alpha.setWins(13);
+        alpha.setPoints(28);
+        alpha.setGoalsFor(60);
+        alpha.setGoalDifferential(20);
+        // Readers keep the old version until the event arrives
+        assertEquals(5, service.getTeamRanking(5L).getStanding().getLeagueRank());
+
+        service.onRatingsChanged(new TeamRatingsChangedEvent(Set.of(5L)));
+
+        TeamRanking after = service.getTeamRanking(5L);
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(1, after.getStanding().getLeagueRank());
+        assertEquals(1, after.getStanding().getConferenceRank());
+        assertEquals(1, after.getStanding().getDivisionRank());
+        assertEquals(Integer.valueOf(1), after.getLeaderboardRanks().get(StandingsService.POINTS));
+        assertEquals(Integer.valueOf(1), after.getLeaderboardRanks().get(StandingsService.RATING));
+
+        StandingRow foxtrot = service.getTeamRanking(1L).getStanding();
+        assertEquals(2, foxtrot.getLeagueRank());
+        assertEquals(2, foxtrot.getConferenceRank());
+        assertEquals(3, service.getTeamRanking(2L).getStanding().getLeagueRank());
+        verify(eventPublisher, times(2)).publishEvent(any(ReadModelUpdatedEvent.class));
+    }
+
+    private Team team(long id, String name, String conference, String division,
+                      int wins, int losses, int overtimeLosses, int goalsFor, int goalsAgainst) {
+        Team team = new Team(name, wins, losses, overtimeLosses, goalsFor, goalsAgainst,
+                0, 0, 0, 0, 0, 0.0, 0.0, 0.0, 0, 0, 0, 0, 0, 0, 0, 0);
+        team.setConference(conference);
+        team.setDivision(division);
+        ReflectionTestUtils.setField(team, "id", id);
+        teams.add(team);
+        return team;
+    }
+
+    private static List<String> names(List<StandingRow> rows) {
+        return rows.stream().map(StandingRow::getTeam).toList();
+    }
+}
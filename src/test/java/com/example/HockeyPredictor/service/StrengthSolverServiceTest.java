@@ -0,0 +1,113 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StrengthSolverServiceTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private long nextGameId = 1;
+
+    /**
+     * Ratings A = +2, B = 0, C = -2 and one goal of home ice, every game played at exactly
+     * those margins, each pairing home and away ten times. Per game A outscores opponents by
+     * 3 against an average opponent of -1, so its schedule adjustment is -1; B's is 0, C's +1.
+     */
+    @Test
+    void solvesASmallLeagueByHand() {
+        StrengthSolverService solver = solver();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            games.add(game(1, 2, 3));   // A hosts B: 2 - 0 + 1
+            games.add(game(2, 1, -1));  // B hosts A: 0 - 2 + 1
+            games.add(game(1, 3, 5));
+            games.add(game(3, 1, -3));
+            games.add(game(2, 3, 3));
+            games.add(game(3, 2, -1));
+        }
+
+        solver.addGames(games);
+
+        assertEquals(1.0, solver.getHomeIceAdvantage(), 1e-3);
+        assertEquals(-1.0, solver.getScheduleAdjustment(1L), 1e-3);
+        assertEquals(0.0, solver.getScheduleAdjustment(2L), 1e-3);
+        assertEquals(1.0, solver.getScheduleAdjustment(3L), 1e-3);
+        assertEquals(0.0, solver.getScheduleAdjustment(4L));
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+                e instanceof TeamRatingsChangedEvent r && r.getTeamIds().equals(Set.of(1L, 2L, 3L))));
+    }
+
+    @Test
+    void warmStartReachesTheColdStartSolution() {
+        Random random = new Random(7);
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            long home = 1 + random.nextInt(12);
+            long away = 1 + (home + random.nextInt(11)) % 12;
+            int margin = random.nextInt(9) - 4;
+            games.add(game(home, away, margin == 0 ? 1 : margin));
+        }
+
+        StrengthSolverService cold = solver();
+        cold.addGames(games);
+
+        StrengthSolverService warm = solver();
+        for (int from = 0; from < games.size(); from += 50) {
+            warm.addGames(games.subList(from, from + 50));
+        }
+
+        assertEquals(cold.getHomeIceAdvantage(), warm.getHomeIceAdvantage(), 1e-4);
+        for (long team = 1; team <= 12; team++) {
+            assertEquals(cold.getScheduleAdjustment(team), warm.getScheduleAdjustment(team), 1e-4, "team " + team);
+        }
+    }
+
+    @Test
+    void gamesAlreadyIncludedOrUnfinishedAreIgnored() {
+        StrengthSolverService solver = solver();
+        Game played = game(1, 2, 2);
+        solver.addGames(List.of(played, game(2, 1, 1)));
+        double before = solver.getScheduleAdjustment(1L);
+
+        Game unfinished = new Game(team(1), team(2), 0, 0, LocalDate.now());
+        ReflectionTestUtils.setField(unfinished, "id", nextGameId++);
+        solver.addGames(List.of(played, unfinished));
+
+        assertEquals(before, solver.getScheduleAdjustment(1L));
+    }
+
+    private StrengthSolverService solver() {
+        return new StrengthSolverService(mock(GameRepository.class), eventPublisher);
+    }
+
+    /** A completed game today with the given home-minus-away margin. */
+    private Game game(long homeId, long awayId, int margin) {
+        int homeGoals = margin > 0 ? 2 + margin : 2;
+        int awayGoals = margin > 0 ? 2 : 2 - margin;
+        Game g = new Game(team(homeId), team(awayId), homeGoals, awayGoals, LocalDate.now());
+        ReflectionTestUtils.setField(g, "id", nextGameId++);
+        return g;
+    }
+
+    private static Team team(long id) {
+        Team t = new Team();
+        ReflectionTestUtils.setField(t, "id", id);
+        return t;
+    }
+}
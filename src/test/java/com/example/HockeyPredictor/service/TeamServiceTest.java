@@ -0,0 +1,74 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import com.example.HockeyPredictor.util.TeamFingerprint;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TeamServiceTest {
+
+    /** Not copied from the request body: the row keeps its id, and the fingerprint is recomputed. */
+    private static final Set<String> NOT_COPIED = Set.of("id", "statsFingerprint");
+
+    @Test
+    void updateTeamCopiesEveryField() throws Exception {
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        TeamService teamService = new TeamService();
+        ReflectionTestUtils.setField(teamService, "teamRepository", teamRepository);
+        ReflectionTestUtils.setField(teamService, "eventPublisher", eventPublisher);
+
+        Team stored = new Team();
+        ReflectionTestUtils.setField(stored, "id", 7L);
+        when(teamRepository.findById(7L)).thenReturn(Optional.of(stored));
+        when(teamRepository.save(any(Team.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // A distinct value in every field, so a field left out of updateTeam shows up as a mismatch
+        Team update = new Team();
+        int n = 1;
+        for (Field f : copiedFields()) {
+            if (f.getType() == int.class) f.setInt(update, n);
+            else if (f.getType() == double.class) f.setDouble(update, n + 0.5);
+            else if (f.getType() == String.class) f.set(update, "value" + n);
+            else throw new AssertionError("Add a test value for " + f.getType() + " " + f.getName());
+            n++;
+        }
+
+        Team saved = teamService.updateTeam(7L, update);
+
+        for (Field f : copiedFields()) {
+            assertEquals(f.get(update), f.get(saved), f.getName());
+        }
+        assertEquals(Long.valueOf(7L), saved.getId());
+        assertEquals(Long.valueOf(TeamFingerprint.of(saved)), saved.getStatsFingerprint());
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+                e instanceof TeamRatingsChangedEvent r && r.getTeamIds().equals(Set.of(7L))));
+    }
+
+    private static List<Field> copiedFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Field f : Team.class.getDeclaredFields()) {
+            if (Modifier.isStatic(f.getModifiers()) || NOT_COPIED.contains(f.getName())) continue;
+            f.setAccessible(true);
+            fields.add(f);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.model.TeamFeatures;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A finished bootstrap must give the same intervals whatever the parallelism: the
+ * parallel stream runs in the pool that calls it, so one and four threads stand in
+ * for small and large machines.
+ */
+class UncertaintyServiceTest {
+
+    /** Rating is points percentage plus goal differential per game. */
+    private static final RatingModel MODEL = new RatingModel() {
+        @Override
+        public String getName() { return "test"; }
+
+        @Override
+        public String getVersion() { return "1"; }
+
+        @Override
+        public double rating(double[] f, boolean isHome) {
+            double games = f[TeamFeatures.WINS] + f[TeamFeatures.LOSSES] + f[TeamFeatures.OVERTIME_LOSSES];
+            if (games == 0) return 0;
+            return (2 * f[TeamFeatures.WINS] + f[TeamFeatures.OVERTIME_LOSSES]) / (2 * games)
+                    + f[TeamFeatures.GOAL_DIFFERENTIAL] / games / 10 + (isHome ? 0.05 : 0);
+        }
+
+        @Override
+        public double probability(double ratingDiff) {
+            return 1 / (1 + Math.exp(-4 * ratingDiff));
+        }
+    };
+
+    @Test
+    void finishedRunDoesNotDependOnParallelism() throws Exception {
+        RatingModelRegistry registry = mock(RatingModelRegistry.class);
+        when(registry.getProduction()).thenReturn(MODEL);
+        UncertaintyService service = new UncertaintyService(registry, 2000, 60_000, 42);
+
+        double[][] teams = new double[8][];
+        for (int t = 0; t < teams.length; t++) teams[t] = team(20 + t, 25 - t, 5, 4 * t - 14);
+        int[] home = {0, 2, 4, 6};
+        int[] away = {1, 3, 5, 7};
+
+        double[][] single = new ForkJoinPool(1).submit(() -> service.homeWinQuantiles(teams, home, away)).get();
+        double[][] four = new ForkJoinPool(4).submit(() -> service.homeWinQuantiles(teams, home, away)).get();
+
+        assertNotNull(single);
+        for (int g = 0; g < home.length; g++) {
+            assertArrayEquals(single[g], four[g], "game " + g);
+        }
+    }
+
+    private static double[] team(int wins, int losses, int overtimeLosses, int goalDifferential) {
+        double[] f = new double[TeamFeatures.COUNT];
+        f[TeamFeatures.WINS] = wins;
+        f[TeamFeatures.LOSSES] = losses;
+        f[TeamFeatures.OVERTIME_LOSSES] = overtimeLosses;
+        f[TeamFeatures.GOAL_DIFFERENTIAL] = goalDifferential;
+        f[TeamFeatures.SHOTS_AGAINST] = 1500;
+        f[TeamFeatures.SAVE_PERCENTAGE] = 0.905;
+        f[TeamFeatures.POWERPLAY_PERCENTAGE] = 21.0;
+        f[TeamFeatures.PENALTY_KILL_PERCENTAGE] = 80.0;
+        return f;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.config.RatingModelConfig;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.TeamFeatures;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * baseline@1 has to keep giving the probabilities PredictionService.computeTeamRating gave
+ * before models were pluggable; the expected values were computed with that code.
+ */
+class WeightedRatingModelTest {
+
+    private final RatingModel baseline = new RatingModelConfig().baselineRatingModel();
+    private final RatingModel scheduleAware = new RatingModelConfig().scheduleAwareRatingModel();
+
+    @Test
+    void baselineReproducesThePreModelProbabilities() {
+        assertEquals(0.5028115976473856, probability(bruins(), avalanche()), 1e-15);
+        assertEquals(0.7675609327451458, probability(avalanche(), sharks()), 1e-15);
+        assertEquals(0.2677954911205120, probability(sharks(), bruins()), 1e-15);
+        // No games played: win percentage falls back to .500
+        assertEquals(0.4248846220506865, probability(expansion(), sharks()), 1e-15);
+    }
+
+    @Test
+    void baselineIgnoresScheduleContext() {
+        double[] tired = tired(TeamFeatures.fromTeam(bruins()));
+        double[] away = TeamFeatures.fromTeam(avalanche());
+
+        assertEquals(0.5028115976473856, baseline.homeWinProbability(tired, away, false), 1e-15);
+        assertNotEquals(scheduleAware.homeWinProbability(TeamFeatures.fromTeam(bruins()), away, false),
+                scheduleAware.homeWinProbability(tired, away, false));
+    }
+
+    @Test
+    void scheduleAwareMatchesBaselineWithoutContext() {
+        double[] home = TeamFeatures.fromTeam(avalanche());
+        double[] away = TeamFeatures.fromTeam(sharks());
+
+        assertEquals(baseline.homeWinProbability(home, away, false),
+                scheduleAware.homeWinProbability(home, away, false), 1e-15);
+    }
+
+    private double probability(Team home, Team away) {
+        return baseline.homeWinProbability(TeamFeatures.fromTeam(home), TeamFeatures.fromTeam(away), false);
+    }
+
+    /** Second night of a back-to-back, fifth game in a week, after travelling. */
+    private static double[] tired(double[] f) {
+        f[TeamFeatures.DAYS_SINCE_LAST_GAME] = 1;
+        f[TeamFeatures.GAMES_LAST_7_DAYS] = 5;
+        f[TeamFeatures.BACK_TO_BACK] = 1;
+        f[TeamFeatures.TRAVELLED] = 1;
+        return f;
+    }
+
+    private static Team bruins() {
+        return new Team("Boston Bruins", 12, 5, 3, 65, 50, 620, 560, 480, 60, 70,
+                24.5, 81.0, 0.912, 140, 120, 1150, 880, 1050, 810, 0, 0);
+    }
+
+    private static Team avalanche() {
+        return new Team("Colorado Avalanche", 14, 6, 1, 75, 58, 680, 590, 400, 65, 55,
+                27.0, 79.5, 0.905, 150, 130, 1250, 950, 1080, 830, 0, 0);
+    }
+
+    private static Team sharks() {
+        return new Team("San Jose Sharks", 4, 12, 2, 40, 70, 500, 690, 520, 45, 80,
+                15.0, 74.0, 0.885, 170, 90, 900, 700, 1300, 990, 0, 0);
+    }
+
+    private static Team expansion() {
+        return new Team("Expansion", 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0.0, 0.0, 0.0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.HockeyPredictor.service;
+
+import com.example.HockeyPredictor.event.GamesChangedEvent;
+import com.example.HockeyPredictor.event.TeamRatingsChangedEvent;
+import com.example.HockeyPredictor.model.Team;
+import com.example.HockeyPredictor.model.WorkItem;
+import com.example.HockeyPredictor.repository.TeamRepository;
+import com.example.HockeyPredictor.repository.WorkItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Work items against a mocked repository that keeps one row's status the way the
+ * real conditional updates would: finish only succeeds for the lease holder and
+ * leaves the owner in place, which is how peers' completions are told from ours.
+ */
+class WorkCoordinatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 15);
+
+    private final WorkItemRepository workItemRepository = mock(WorkItemRepository.class);
+    private final SportsRadarService sportsRadarService = mock(SportsRadarService.class);
+    private final TeamSnapshotService teamSnapshotService = mock(TeamSnapshotService.class);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final StrengthSolverService strengthSolverService = mock(StrengthSolverService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private WorkItem item;
+    private WorkCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        item = new WorkItem(WorkItem.Type.SCHEDULE, "schedule:" + DATE, DATE.toString());
+        ReflectionTestUtils.setField(item, "id", 1L);
+
+        when(teamSnapshotService.isDatabaseReady()).thenReturn(true);
+        when(workItemRepository.findClaimable(any(), any(), any(Instant.class), any(Pageable.class)))
+                .thenAnswer(inv -> claimable() ? List.of(item) : List.of());
+        when(workItemRepository.saveAndFlush(any(WorkItem.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(workItemRepository.finish(anyLong(), eq("test"), eq(WorkItem.Status.CLAIMED), any(), any(Instant.class)))
+                .thenAnswer(inv -> {
+                    if (item.getStatus() != WorkItem.Status.CLAIMED || !"test".equals(item.getOwner())) return 0;
+                    item.setStatus(inv.getArgument(3));
+                    item.setLeaseExpiresAt(null);
+                    item.setUpdatedAt(inv.getArgument(4));
+                    return 1;
+                });
+        when(workItemRepository.findLatestCompletionByOthers(WorkItem.Status.DONE, "test"))
+                .thenAnswer(inv -> item.getStatus() == WorkItem.Status.DONE && !"test".equals(item.getOwner())
+                        ? item.getUpdatedAt() : null);
+
+        coordinator = new WorkCoordinator(workItemRepository, teamRepository, sportsRadarService,
+                strengthSolverService, teamSnapshotService, eventPublisher,
+                new ObjectMapper(), true, "test", 30_000, 8);
+    }
+
+    /** What findClaimable's query selects: pending rows, and claimed rows whose lease has run out. */
+    private boolean claimable() {
+        return item.getStatus() == WorkItem.Status.PENDING
+                || (item.getStatus() == WorkItem.Status.CLAIMED && item.getLeaseExpiresAt().isBefore(Instant.now()));
+    }
+
+    @Test
+    void failedFetchIsRetriedThenParked() throws Exception {
+        when(sportsRadarService.fetchGamesForDate(DATE)).thenThrow(new IllegalStateException("HTTP 503"));
+
+        coordinator.poll();
+        assertEquals(WorkItem.Status.PENDING, item.getStatus());
+        coordinator.poll();
+        assertEquals(WorkItem.Status.PENDING, item.getStatus());
+        coordinator.poll();
+        assertEquals(WorkItem.Status.FAILED, item.getStatus());
+
+        // Parked: no further attempts
+        coordinator.poll();
+        verify(sportsRadarService, times(3)).fetchGamesForDate(DATE);
+        assertEquals(3, item.getAttempts());
+    }
+
+    @Test
+    void expiredLeaseOnLastAttemptIsParked() throws Exception {
+        item.setStatus(WorkItem.Status.CLAIMED);
+        item.setOwner("crashed");
+        item.setAttempts(3);
+        item.setLeaseExpiresAt(Instant.now().minusSeconds(60));
+
+        coordinator.poll();
+        assertEquals(WorkItem.Status.FAILED, item.getStatus());
+        verify(sportsRadarService, times(0)).fetchGamesForDate(DATE);
+    }
+
+    @Test
+    void successfulFetchIsDone() throws Exception {
+        when(sportsRadarService.fetchGamesForDate(DATE)).thenReturn(List.of());
+
+        coordinator.poll();
+        assertEquals(WorkItem.Status.DONE, item.getStatus());
+        assertEquals("test", item.getOwner());
+        assertEquals(1, item.getAttempts());
+
+        // Our own completion isn't a peer's
+        coordinator.poll();
+        verify(strengthSolverService, never()).rebuild();
+    }
+
+    @Test
+    void lostLeaseLeavesThePeersResult() throws Exception {
+        // Our fetch stalls past the lease and a peer reclaims the item meanwhile
+        when(sportsRadarService.fetchGamesForDate(DATE)).thenAnswer(inv -> {
+            item.setOwner("peer");
+            item.setAttempts(item.getAttempts() + 1);
+            return List.of();
+        });
+
+        coordinator.poll();
+
+        verify(workItemRepository).finish(eq(1L), eq("test"), eq(WorkItem.Status.CLAIMED), eq(WorkItem.Status.DONE),
+                any(Instant.class));
+        assertEquals(WorkItem.Status.CLAIMED, item.getStatus());
+        assertEquals("peer", item.getOwner());
+        assertEquals(2, item.getAttempts());
+        verify(teamSnapshotService).writeSnapshot();
+    }
+
+    @Test
+    void lostLeaseOnAFailedFetchDoesNotRequeue() throws Exception {
+        when(sportsRadarService.fetchGamesForDate(DATE)).thenAnswer(inv -> {
+            item.setOwner("peer");
+            throw new IllegalStateException("HTTP 503");
+        });
+
+        coordinator.poll();
+
+        assertEquals(WorkItem.Status.CLAIMED, item.getStatus());
+        assertEquals("peer", item.getOwner());
+    }
+
+    @Test
+    void peerCompletionReloadsDerivedState() {
+        Team team = new Team();
+        ReflectionTestUtils.setField(team, "id", 7L);
+        when(teamRepository.findAll()).thenReturn(List.of(team));
+        item.setStatus(WorkItem.Status.FAILED);
+
+        // Nothing finished yet at startup, so the first completion already counts
+        coordinator.poll();
+        verify(strengthSolverService, never()).rebuild();
+
+        item.setStatus(WorkItem.Status.DONE);
+        item.setOwner("peer");
+        item.setUpdatedAt(Instant.now());
+        coordinator.poll();
+        verify(strengthSolverService, times(1)).rebuild();
+        verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TeamRatingsChangedEvent t
+                && t.getTeamIds().equals(Set.of(7L))));
+        verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof GamesChangedEvent g
+                && g.getGameIds().isEmpty()));
+        verify(teamSnapshotService, times(1)).writeSnapshot();
+
+        // The same completion again is not a new one
+        coordinator.poll();
+        verify(strengthSolverService, times(1)).rebuild();
+
+        item.setUpdatedAt(item.getUpdatedAt().plusSeconds(5));
+        coordinator.poll();
+        verify(strengthSolverService, times(2)).rebuild();
+    }
+
+    @Test
+    void completionsBeforeStartupDoNotReload() {
+        item.setStatus(WorkItem.Status.DONE);
+        item.setOwner("peer");
+        item.setUpdatedAt(Instant.now().minusSeconds(3600));
+
+        coordinator.poll();
+        coordinator.poll();
+
+        verify(strengthSolverService, never()).rebuild();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.HockeyPredictor.util;
+
+import com.example.HockeyPredictor.model.Game;
+import com.example.HockeyPredictor.model.GameSegment;
+import com.example.HockeyPredictor.model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSegmentFileTest {
+
+    private static final int SEASON = 2024;
+
+    @TempDir
+    Path dir;
+
+    private final Team bruins = team(1L, "Boston Bruins");
+    private final Team avalanche = team(2L, "Colorado Avalanche");
+    private final Team canadiens = team(3L, "Montréal Canadiens");
+
+    @Test
+    void roundTripsEveryColumn() throws IOException {
+        Path path = GameSegmentFile.pathFor(dir, SEASON);
+        GameSegmentFile.write(path, SEASON, List.of(
+                game(11L, avalanche, bruins, 2, 5, LocalDate.of(2024, 10, 12)),
+                game(10L, bruins, canadiens, 4, 1, LocalDate.of(2024, 10, 8)),
+                game(12L, canadiens, avalanche, 0, 3, LocalDate.of(2025, 4, 16))), null);
+
+        GameSegment segment = GameSegmentFile.read(path);
+
+        assertEquals(SEASON, segment.getSeason());
+        assertEquals(3, segment.getRowCount());
+        assertEquals(3, segment.getTeamCount());
+        // Rows are sorted by date, then game id
+        assertEquals(10L, segment.getGameId(0));
+        assertEquals(LocalDate.of(2024, 10, 8), segment.getDate(0));
+        assertEquals(1L, segment.getHomeTeamId(0));
+        assertEquals(3L, segment.getAwayTeamId(0));
+        assertEquals(4, segment.getHomeGoals(0));
+        assertEquals(1, segment.getAwayGoals(0));
+
+        assertEquals(11L, segment.getGameId(1));
+        assertEquals(LocalDate.of(2024, 10, 12), segment.getDate(1));
+        assertEquals(2L, segment.getHomeTeamId(1));
+        assertEquals(1L, segment.getAwayTeamId(1));
+        assertEquals(2, segment.getHomeGoals(1));
+        assertEquals(5, segment.getAwayGoals(1));
+
+        assertEquals(12L, segment.getGameId(2));
+        assertEquals(LocalDate.of(2025, 4, 16), segment.getDate(2));
+        assertEquals(0, segment.getHomeGoals(2));
+        assertEquals(3, segment.getAwayGoals(2));
+
+        assertEquals("Montréal Canadiens", segment.getTeamName(segment.getAwayTeamIndex(0)));
+    }
+
+    @Test
+    void carriesOverExistingRowsAndLetsNewGamesReplaceThem() throws IOException {
+        Path path = GameSegmentFile.pathFor(dir, SEASON);
+        GameSegmentFile.write(path, SEASON, List.of(
+                game(10L, bruins, avalanche, 3, 2, LocalDate.of(2024, 10, 8)),
+                game(11L, avalanche, bruins, 1, 1, LocalDate.of(2024, 10, 12))), null);
+        GameSegment existing = GameSegmentFile.read(path);
+
+        // A late result for game 11 and a game against a team the segment hasn't seen
+        GameSegmentFile.write(path, SEASON, List.of(
+                game(11L, avalanche, bruins, 1, 2, LocalDate.of(2024, 10, 12)),
+                game(13L, canadiens, bruins, 2, 4, LocalDate.of(2024, 11, 2))), existing);
+
+        GameSegment merged = GameSegmentFile.read(path);
+        assertEquals(3, merged.getRowCount());
+        assertEquals(3, merged.getTeamCount());
+        assertEquals(10L, merged.getGameId(0));
+        assertEquals(3, merged.getHomeGoals(0));
+        assertEquals(2, merged.getAwayGoals(0));
+        assertEquals(11L, merged.getGameId(1));
+        assertEquals(1, merged.getHomeGoals(1));
+        assertEquals(2, merged.getAwayGoals(1));
+        assertEquals(13L, merged.getGameId(2));
+        assertEquals(3L, merged.getHomeTeamId(2));
+        assertEquals("Montréal Canadiens", merged.getTeamName(merged.getHomeTeamIndex(2)));
+    }
+
+    @Test
+    void rejectsGamesFromAnotherSeason() {
+        Path path = GameSegmentFile.pathFor(dir, SEASON);
+        IOException e = assertThrows(IOException.class, () -> GameSegmentFile.write(path, SEASON,
+                List.of(game(10L, bruins, avalanche, 3, 2, LocalDate.of(2025, 10, 8))), null));
+        assertTrue(e.getMessage().contains("not from season"));
+        assertTrue(Files.notExists(path));
+    }
+
+    @Test
+    void rejectsAFileThatFailsItsChecksum() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 9] ^= 0x01; // last away score, just before the trailer
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> GameSegmentFile.read(path));
+        assertTrue(e.getMessage().contains("failed its checksum"));
+    }
+
+    @Test
+    void rejectsATruncatedFile() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        IOException e = assertThrows(IOException.class, () -> GameSegmentFile.read(path));
+        assertTrue(e.getMessage().contains("unexpected length"));
+
+        Files.write(path, Arrays.copyOf(bytes, 12));
+        e = assertThrows(IOException.class, () -> GameSegmentFile.read(path));
+        assertTrue(e.getMessage().contains("truncated"));
+    }
+
+    private Path writeSample() throws IOException {
+        Path path = GameSegmentFile.pathFor(dir, SEASON);
+        GameSegmentFile.write(path, SEASON, List.of(
+                game(10L, bruins, avalanche, 3, 2, LocalDate.of(2024, 10, 8)),
+                game(11L, avalanche, canadiens, 5, 4, LocalDate.of(2024, 10, 12))), null);
+        return path;
+    }
+
+    private static Game game(long id, Team home, Team away, int homeGoals, int awayGoals, LocalDate date) {
+        Game game = new Game(home, away, homeGoals, awayGoals, date);
+        ReflectionTestUtils.setField(game, "id", id);
+        return game;
+    }
+
+    private static Team team(long id, String name) {
+        Team team = new Team();
+        team.setName(name);
+        ReflectionTestUtils.setField(team, "id", id);
+        return team;
+    }
+}
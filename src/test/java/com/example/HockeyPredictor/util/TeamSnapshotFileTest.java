@@ -0,0 +1,111 @@
+package com.example.HockeyPredictor.util;
+
+import com.example.HockeyPredictor.model.TeamFeatures;
+import com.example.HockeyPredictor.model.TeamStatsSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsTeamsFeaturesAndMatchups() throws IOException {
+        TeamStatsSnapshot snapshot = sample();
+        Path path = dir.resolve("team-stats.snapshot");
+        TeamSnapshotFile.write(path, snapshot);
+
+        TeamStatsSnapshot read = TeamSnapshotFile.read(path);
+
+        assertEquals(snapshot.getCreatedAtMillis(), read.getCreatedAtMillis());
+        assertEquals(LocalDate.of(2025, 11, 14), read.getScheduleDate());
+        assertEquals(3, read.getTeamCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(snapshot.getTeamId(i), read.getTeamId(i));
+            assertEquals(snapshot.getTeamName(i), read.getTeamName(i));
+            assertArrayEquals(snapshot.getFeatures(i), read.getFeatures(i));
+        }
+        assertEquals(2, read.getGameCount());
+        assertEquals(501L, read.getGameId(0));
+        assertEquals(0, read.getHomeIndex(0));
+        assertEquals(2, read.getAwayIndex(0));
+        assertEquals(502L, read.getGameId(1));
+        assertEquals(1, read.getHomeIndex(1));
+        assertEquals(0, read.getAwayIndex(1));
+    }
+
+    @Test
+    void cutsLongNamesOnACharacterBoundary() {
+        ByteBuffer buf = ByteBuffer.allocate(TeamSnapshotFile.NAME_BYTES);
+        String name = "a" + "é".repeat(40); // 81 bytes, the 64th is the middle of an é
+        TeamSnapshotFile.putName(buf, name);
+
+        assertEquals(name.substring(0, 32), TeamSnapshotFile.getName(buf.array()));
+    }
+
+    @Test
+    void rejectsAFileThatFailsItsChecksum() throws IOException {
+        Path path = dir.resolve("team-stats.snapshot");
+        TeamSnapshotFile.write(path, sample());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[120] ^= 0x01; // inside the first team's features
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> TeamSnapshotFile.read(path));
+        assertTrue(e.getMessage().contains("failed its checksum"));
+    }
+
+    @Test
+    void rejectsATruncatedFile() throws IOException {
+        Path path = dir.resolve("team-stats.snapshot");
+        TeamSnapshotFile.write(path, sample());
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 16));
+        IOException e = assertThrows(IOException.class, () -> TeamSnapshotFile.read(path));
+        assertTrue(e.getMessage().contains("unexpected length"));
+
+        Files.write(path, Arrays.copyOf(bytes, 20));
+        e = assertThrows(IOException.class, () -> TeamSnapshotFile.read(path));
+        assertTrue(e.getMessage().contains("truncated"));
+    }
+
+    @Test
+    void rejectsASnapshotWithAnotherFeatureCount() throws IOException {
+        Path path = dir.resolve("team-stats.snapshot");
+        TeamSnapshotFile.write(path, sample());
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(8, TeamFeatures.COUNT - 1);
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> TeamSnapshotFile.read(path));
+        assertTrue(e.getMessage().contains("features, expected"));
+    }
+
+    private static TeamStatsSnapshot sample() {
+        double[][] features = new double[3][TeamFeatures.COUNT];
+        for (int t = 0; t < 3; t++) {
+            for (int f = 0; f < TeamFeatures.COUNT; f++) {
+                features[t][f] = (t + 1) * 10 + f * 0.125;
+            }
+        }
+        return new TeamStatsSnapshot(1_763_100_000_000L, LocalDate.of(2025, 11, 14),
+                new long[] {4L, 7L, 9L},
+                new String[] {"Boston Bruins", "Colorado Avalanche", "Montréal Canadiens"},
+                features,
+                new long[] {501L, 502L}, new int[] {0, 1}, new int[] {2, 0});
+    }
+}